@@ -0,0 +1,67 @@
+package io.kestra.plugin.todoist;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.kestra.core.serializers.FileSerde;
+
+/**
+ * Hot path of {@link ListTasks}: parsing a task page, projecting fields, and writing tasks to Ion.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ListTasksBenchmark {
+    @Param({"50", "200", "1000"})
+    int size;
+
+    @Param({"false", "true"})
+    boolean deep;
+
+    private byte[] page;
+    private List<Map<String, Object>> tasks;
+    private FieldProjection projection;
+    private ByteArrayOutputStream output;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        page = TaskPayloads.page(size, deep);
+        tasks = TaskPayloads.tasks(size, deep);
+        projection = FieldProjection.of(List.of("id", "content", "due.date"));
+        output = new ByteArrayOutputStream(page.length * 2);
+    }
+
+    @Benchmark
+    public String parsePage(Blackhole blackhole) throws IOException {
+        return TaskPageParser.parse(new ByteArrayInputStream(page), null, blackhole::consume);
+    }
+
+    @Benchmark
+    public String parsePageWithProjection(Blackhole blackhole) throws IOException {
+        return TaskPageParser.parse(new ByteArrayInputStream(page), projection, blackhole::consume);
+    }
+
+    @Benchmark
+    public int writeIon() throws IOException {
+        output.reset();
+        for (Map<String, Object> task : tasks) {
+            FileSerde.write(output, task);
+        }
+        return output.size();
+    }
+}
@@ -0,0 +1,78 @@
+package io.kestra.plugin.todoist;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.kestra.core.serializers.JacksonMapper;
+
+/**
+ * Synthetic Todoist payloads shaped like `/api/v1/tasks` responses, generated deterministically so runs are comparable.
+ */
+final class TaskPayloads {
+    private TaskPayloads() {
+    }
+
+    /**
+     * A task list page of {@code size} tasks; with {@code deep}, each task also carries a nested structure several levels deep.
+     */
+    static byte[] page(int size, boolean deep) throws Exception {
+        Map<String, Object> page = new LinkedHashMap<>();
+        page.put("results", tasks(size, deep));
+        page.put("next_cursor", "cursor-" + size);
+        return JacksonMapper.ofJson().writeValueAsString(page).getBytes(StandardCharsets.UTF_8);
+    }
+
+    static List<Map<String, Object>> tasks(int size, boolean deep) {
+        List<Map<String, Object>> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tasks.add(task(i, deep));
+        }
+        return tasks;
+    }
+
+    static Map<String, Object> task(int index, boolean deep) {
+        Map<String, Object> task = new LinkedHashMap<>();
+        task.put("id", String.valueOf(7_000_000_000L + index));
+        task.put("user_id", "12345678");
+        task.put("project_id", String.valueOf(2_200_000_000L + index % 20));
+        task.put("section_id", index % 3 == 0 ? null : String.valueOf(1_000_000L + index % 50));
+        task.put("parent_id", null);
+        task.put("content", "Synthetic task " + index + " with a realistic title length");
+        task.put("description", "Longer description for task " + index + ". ".repeat(4));
+        task.put("priority", 1 + index % 4);
+        task.put("labels", List.of("work", "label-" + index % 10));
+        task.put("checked", false);
+        task.put("is_deleted", false);
+        task.put("child_order", index);
+        task.put("added_at", "2026-01-01T10:00:00.000000Z");
+        task.put("updated_at", "2026-01-02T10:00:00.000000Z");
+
+        Map<String, Object> due = new LinkedHashMap<>();
+        due.put("date", "2026-02-" + String.format("%02d", 1 + index % 28));
+        due.put("string", "every monday");
+        due.put("lang", "en");
+        due.put("is_recurring", index % 5 == 0);
+        due.put("timezone", null);
+        task.put("due", due);
+        task.put("deadline", null);
+        task.put("duration", index % 2 == 0 ? Map.of("amount", 30, "unit", "minute") : null);
+
+        if (deep) {
+            Map<String, Object> nested = new LinkedHashMap<>();
+            nested.put("value", index);
+            for (int level = 0; level < 8; level++) {
+                Map<String, Object> parent = new LinkedHashMap<>();
+                parent.put("level", level);
+                parent.put("items", List.of(level, level + 1, level + 2));
+                parent.put("child", nested);
+                nested = parent;
+            }
+            task.put("meta", nested);
+        }
+
+        return task;
+    }
+}
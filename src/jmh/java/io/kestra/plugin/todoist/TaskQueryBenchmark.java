@@ -0,0 +1,59 @@
+package io.kestra.plugin.todoist;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Planning and URL building of {@link ListTasks} requests, run once per page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskQueryBenchmark {
+    private static final String BASE_URL = "https://api.todoist.com/api/v1";
+
+    private final TaskQuery.NameResolver names = new TaskQuery.NameResolver() {
+        @Override
+        public String projectName(String projectId) {
+            return "Work (shared)";
+        }
+
+        @Override
+        public String sectionName(String sectionId) {
+            return "Next actions";
+        }
+    };
+
+    private final TaskQuery projectQuery = plan("2203306141", null, List.of(), null, null, null, null);
+    private final TaskQuery filterQuery = plan("2203306141", "1000001", List.of("work", "urgent"), 1, "today", "+7 days", "!assigned to: others");
+
+    @Benchmark
+    public String buildProjectUrl() {
+        return projectQuery.buildUrl(BASE_URL, 200, "b3BhcXVlLWN1cnNvcg");
+    }
+
+    @Benchmark
+    public String buildFilterUrl() {
+        return filterQuery.buildUrl(BASE_URL, 200, "b3BhcXVlLWN1cnNvcg");
+    }
+
+    @Benchmark
+    public String planAndBuildFilterUrl() {
+        return plan("2203306141", "1000001", List.of("work", "urgent"), 1, "today", "+7 days", "!assigned to: others").buildUrl(BASE_URL, 200, null);
+    }
+
+    private TaskQuery plan(String projectId, String sectionId, List<String> labels, Integer priority, String dueAfter, String dueBefore, String filter) {
+        try {
+            return TaskQuery.plan(projectId, sectionId, labels, priority, dueAfter, dueBefore, filter, names);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package io.kestra.plugin.todoist;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.luben.zstd.ZstdInputStream;
+
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.serializers.JacksonMapper;
+
+/**
+ * STORE output of {@link ListTasks} for every format and codec: time to write a snapshot, its size on disk
+ * (reported as the `fileBytes` secondary result), and time for a downstream task to read it back.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TaskStoreBenchmark {
+    private static final ObjectMapper MAPPER = JacksonMapper.ofJson();
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @Param({"10000"})
+    int size;
+
+    @Param({"ION", "JSONL", "CSV"})
+    ListTasks.StoreFormat format;
+
+    @Param({"NONE", "GZIP", "ZSTD"})
+    ListTasks.StoreCodec codec;
+
+    private List<Map<String, Object>> tasks;
+    private File writeFile;
+    private File readFile;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        tasks = TaskPayloads.tasks(size, false);
+        writeFile = File.createTempFile("todoist-store-write", TaskStore.extension(format, codec));
+        readFile = File.createTempFile("todoist-store-read", TaskStore.extension(format, codec));
+        write(readFile);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(writeFile.toPath());
+        Files.deleteIfExists(readFile.toPath());
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class FileSize {
+        public long fileBytes;
+    }
+
+    @Benchmark
+    public void write(FileSize fileSize) throws IOException {
+        write(writeFile);
+        fileSize.fileBytes = writeFile.length();
+    }
+
+    @Benchmark
+    public long read(Blackhole blackhole) throws IOException {
+        long rows = 0;
+
+        try (InputStream input = decompress(new BufferedInputStream(new FileInputStream(readFile), BUFFER_SIZE))) {
+            switch (format) {
+                case ION -> {
+                    try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+                        rows = FileSerde.readAll(reader).doOnNext(blackhole::consume).count().block();
+                    }
+                }
+                case JSONL -> {
+                    try (MappingIterator<Map<String, Object>> iterator = MAPPER.readerForMapOf(Object.class).readValues(input)) {
+                        while (iterator.hasNext()) {
+                            blackhole.consume(iterator.next());
+                            rows++;
+                        }
+                    }
+                }
+                case CSV -> {
+                    try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+                        // Header, then one naive split per row: a lower bound for a real CSV reader
+                        reader.readLine();
+                        String line;
+                        while ((line = reader.readLine()) != null) {
+                            blackhole.consume(line.split(","));
+                            rows++;
+                        }
+                    }
+                }
+            }
+        }
+
+        return rows;
+    }
+
+    private InputStream decompress(InputStream input) throws IOException {
+        return switch (codec) {
+            case NONE -> input;
+            case GZIP -> new GZIPInputStream(input, BUFFER_SIZE);
+            case ZSTD -> new ZstdInputStream(input);
+        };
+    }
+
+    private void write(File file) throws IOException {
+        try (TaskStore.TaskWriter writer = TaskStore.open(file, format, codec, List.of())) {
+            for (Map<String, Object> task : tasks) {
+                writer.write(task);
+            }
+        }
+    }
+}
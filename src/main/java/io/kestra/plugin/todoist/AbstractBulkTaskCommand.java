@@ -0,0 +1,156 @@
+package io.kestra.plugin.todoist;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.property.Data;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * Applies one `/sync` item command to many task IDs, up to 100 commands per request.
+ * Rejected commands are reported per ID without failing the task.
+ */
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+public abstract class AbstractBulkTaskCommand extends AbstractTodoistTask implements RunnableTask<AbstractBulkTaskCommand.Output> {
+
+    @Schema(
+        title = "Task IDs",
+        description = "Todoist task IDs to apply the command to"
+    )
+    @PluginProperty(group = "main")
+    protected Property<List<String>> taskIds;
+
+    @Schema(
+        title = Data.From.TITLE,
+        description = "Rows holding the task IDs, as an internal storage URI (`kestra://`) of an Ion file or an inline list. The ID is taken from the `taskId` or `id` field of each row, so the outputs of `ListTasks`, `BatchGetTasks` and `BatchCreateTasks` can be passed as is. Combined with `taskIds` when both are set.",
+        anyOf = {String.class, List.class}
+    )
+    @PluginProperty(dynamic = true, internalStorageURI = true, group = "main")
+    protected Object from;
+
+    @Schema(
+        title = "Batch size",
+        description = "Number of commands per `/sync` request; capped at 100, default 100"
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    protected Property<Integer> batchSize = Property.ofValue(MAX_SYNC_COMMANDS);
+
+    /**
+     * `/sync` command type sent for each ID, e.g. `item_close`
+     */
+    protected abstract String commandType();
+
+    /**
+     * Past participle used in logs, e.g. `completed`
+     */
+    protected abstract String action();
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        Logger logger = runContext.logger();
+
+        String rToken = runContext.render(apiToken).as(String.class).orElseThrow();
+        int rBatchSize = Math.max(1, Math.min(runContext.render(batchSize).as(Integer.class).orElse(MAX_SYNC_COMMANDS), MAX_SYNC_COMMANDS));
+        List<String> ids = readTaskIds(runContext, taskIds, from);
+
+        File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
+        long succeeded = 0;
+        long failed = 0;
+
+        try (OutputStream output = new BufferedOutputStream(new FileOutputStream(tempFile))) {
+            for (int start = 0; start < ids.size(); start += rBatchSize) {
+                List<String> batch = ids.subList(start, Math.min(start + rBatchSize, ids.size()));
+                List<Map<String, Object>> commands = new ArrayList<>(batch.size());
+                for (String id : batch) {
+                    commands.add(syncCommand(commandType(), null, Map.of("id", id)));
+                }
+
+                Map<String, Object> syncResponse = sendSyncCommands(runContext, rToken, commands);
+
+                for (int i = 0; i < commands.size(); i++) {
+                    String id = batch.get(i);
+                    String error = syncCommandError(syncResponse, commands.get(i));
+                    TaskCache.invalidate(rToken, id);
+
+                    Map<String, Object> result = new LinkedHashMap<>();
+                    result.put("taskId", id);
+                    result.put("status", error == null ? "ok" : "error");
+                    if (error != null) {
+                        result.put("error", error);
+                        failed++;
+                    } else {
+                        succeeded++;
+                    }
+                    FileSerde.write(output, result);
+                }
+
+                logger.debug("Sent {} {} commands so far", start + batch.size(), commandType());
+            }
+        }
+
+        if (failed > 0) {
+            logger.warn("{} of {} tasks could not be {}", failed, ids.size(), action());
+        }
+        logger.info("{} {} tasks in bulk", capitalize(action()), succeeded);
+
+        URI uri = runContext.storage().putFile(tempFile);
+
+        return Output.builder()
+            .uri(uri)
+            .succeeded(succeeded)
+            .failed(failed)
+            .build();
+    }
+
+    private static String capitalize(String value) {
+        return Character.toUpperCase(value.charAt(0)) + value.substring(1);
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "URI",
+            description = "Internal storage URI (`kestra://`) of an Ion file with the `taskId`, `status` (`ok` or `error`) and Todoist `error` of each ID"
+        )
+        private final URI uri;
+
+        @Schema(
+            title = "Succeeded",
+            description = "Number of tasks the command was applied to"
+        )
+        private final Long succeeded;
+
+        @Schema(
+            title = "Failed",
+            description = "Number of commands rejected by Todoist"
+        )
+        private final Long failed;
+    }
+}
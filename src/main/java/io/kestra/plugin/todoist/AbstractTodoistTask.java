@@ -1,16 +1,48 @@
 package io.kestra.plugin.todoist;
 
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
 
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.http.HttpRequest;
 import io.kestra.core.http.HttpResponse;
-import io.kestra.core.http.client.HttpClient;
+import io.kestra.core.http.client.configurations.HttpConfiguration;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.executions.metrics.Timer;
+import io.kestra.core.models.property.Data;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.Task;
 import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.JacksonMapper;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -34,19 +66,428 @@ public abstract class AbstractTodoistTask extends Task {
     @PluginProperty(secret = true, group = "main")
     protected Property<String> apiToken;
 
+    @Schema(
+        title = "Maximum pooled connections",
+        description = "Size of the keep-alive connection pool shared by every Todoist task using the same API token on a worker; default 10"
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    protected Property<Integer> maxConnections = Property.ofValue(ClientOptions.DEFAULTS.maxConnections());
+
+    @Schema(
+        title = "Idle connection timeout",
+        description = "Pooled connections left idle longer than this are closed; default PT30S"
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    protected Property<Duration> idleConnectionTimeout = Property.ofValue(ClientOptions.DEFAULTS.idleConnectionTimeout());
+
+    @Schema(
+        title = "Requests per minute",
+        description = "Sustained request budget shared by every Todoist call made with the same API token on a worker; default 60"
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    protected Property<Integer> rateLimit = Property.ofValue(ClientOptions.DEFAULTS.rateLimit());
+
+    @Schema(
+        title = "Request burst",
+        description = "Number of requests that may be sent back to back before the per-minute budget applies; default 60"
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    protected Property<Integer> rateLimitBurst = Property.ofValue(ClientOptions.DEFAULTS.rateLimitBurst());
+
+    @Schema(
+        title = "Maximum throttling retries",
+        description = "How many times a request answered with 429 or 503 is retried, honouring `Retry-After` or a jittered exponential backoff; default 5"
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    protected Property<Integer> maxRetries = Property.ofValue(ClientOptions.DEFAULTS.maxRetries());
+
+    @Schema(
+        title = "API base URL",
+        description = "Root of the Todoist API v1, e.g., to go through a proxy or to point tests at a local stand-in; default https://api.todoist.com/api/v1"
+    )
+    @Builder.Default
+    @PluginProperty(group = "connection")
+    protected Property<String> baseUrl = Property.ofValue(BASE_URL);
+
+    @Schema(
+        title = "HTTP client options",
+        description = "Connect and read timeouts, proxy, and SSL settings of the connection pool; timeouts default to PT10S to connect and PT60S without data. Without a proxy, the worker JVM's proxy and trust store settings apply."
+    )
+    @PluginProperty(group = "connection")
+    protected HttpConfiguration options;
+
     protected static final String BASE_URL = "https://api.todoist.com/api/v1";
 
+    /**
+     * Maximum number of commands Todoist accepts in a single `/sync` request
+     */
+    protected static final int MAX_SYNC_COMMANDS = 100;
+
+    /**
+     * How long project and section names resolved to IDs are reused before being listed again
+     */
+    protected static final Duration DEFAULT_NAME_CACHE_TTL = Duration.ofMinutes(15);
+
+    static final String REQUEST_ID_HEADER = "X-Request-Id";
+
+    private static final String API_PATH = URI.create(BASE_URL).getPath();
+
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(1);
+
+    /**
+     * Rendered API root, without trailing slash
+     */
+    protected String baseUrl(RunContext runContext) throws IllegalVariableEvaluationException {
+        String rBaseUrl = runContext.render(baseUrl).as(String.class).orElse(BASE_URL);
+        return rBaseUrl.endsWith("/") ? rBaseUrl.substring(0, rBaseUrl.length() - 1) : rBaseUrl;
+    }
+
     protected HttpRequest.HttpRequestBuilder createRequestBuilder(String token, String url) {
+        return requestBuilder(token, url);
+    }
+
+    static HttpRequest.HttpRequestBuilder requestBuilder(String token, String url) {
         return HttpRequest.builder()
             .uri(URI.create(url))
             .addHeader("Authorization", "Bearer " + token)
             .addHeader("Content-Type", "application/json");
     }
 
+    /**
+     * Marks a write request with a stable `X-Request-Id` so Todoist ignores it when a retry sends it again
+     */
+    protected HttpRequest.HttpRequestBuilder createIdempotentRequestBuilder(RunContext runContext, String token, String url, String scope) {
+        return createRequestBuilder(token, url)
+            .addHeader(REQUEST_ID_HEADER, requestId(runContext, scope));
+    }
+
+    /**
+     * Derives a request id from the execution and task run, which are kept across Kestra retries of the task, so every
+     * attempt of the same write sends the same id. Outside an execution a random id is returned.
+     */
+    static String requestId(RunContext runContext, String scope) {
+        Map<String, Object> variables = runContext.getVariables();
+        Object executionId = variables.get("execution") instanceof Map<?, ?> execution ? execution.get("id") : null;
+        Object taskRunId = variables.get("taskrun") instanceof Map<?, ?> taskRun ? taskRun.get("id") : null;
+
+        if (executionId == null || taskRunId == null) {
+            return UUID.randomUUID().toString();
+        }
+
+        return UUID.nameUUIDFromBytes((executionId + ":" + taskRunId + ":" + scope).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
     protected HttpResponse<String> sendRequest(RunContext runContext, HttpRequest request) throws Exception {
-        HttpClient client = HttpClient.builder()
-            .runContext(runContext)
+        String rToken = runContext.render(apiToken).as(String.class).orElseThrow();
+
+        return send(runContext, rToken, clientOptions(runContext), request);
+    }
+
+    protected ClientOptions clientOptions(RunContext runContext) throws IllegalVariableEvaluationException {
+        return new ClientOptions(
+            runContext.render(maxConnections).as(Integer.class).orElse(ClientOptions.DEFAULTS.maxConnections()),
+            runContext.render(idleConnectionTimeout).as(Duration.class).orElse(ClientOptions.DEFAULTS.idleConnectionTimeout()),
+            runContext.render(rateLimit).as(Integer.class).orElse(ClientOptions.DEFAULTS.rateLimit()),
+            runContext.render(rateLimitBurst).as(Integer.class).orElse(ClientOptions.DEFAULTS.rateLimitBurst()),
+            runContext.render(maxRetries).as(Integer.class).orElse(ClientOptions.DEFAULTS.maxRetries()),
+            TodoistHttpClient.HttpOptions.render(runContext, options)
+        );
+    }
+
+    /**
+     * Sends a request and streams a successful body into the reader instead of buffering it;
+     * a failed response keeps its body in {@link TodoistHttpClient.Exchange#errorBody()}
+     */
+    protected <T> TodoistHttpClient.Exchange<T> sendStreamingRequest(RunContext runContext, HttpRequest request, TodoistHttpClient.BodyReader<T> reader) throws Exception {
+        String rToken = runContext.render(apiToken).as(String.class).orElseThrow();
+
+        return send(runContext, rToken, clientOptions(runContext), request, client -> client.request(request, reader));
+    }
+
+    /**
+     * Sends a request through the shared rate limiter and connection pool of the token, retrying on 429/503.
+     * Also used by triggers, which cannot extend this class.
+     */
+    static HttpResponse<String> send(RunContext runContext, String token, ClientOptions options, HttpRequest request) throws Exception {
+        return send(runContext, token, options, request, client -> client.request(request)).response();
+    }
+
+    private static <T> TodoistHttpClient.Exchange<T> send(RunContext runContext, String token, ClientOptions options, HttpRequest request, ExchangeCall<T> call) throws Exception {
+        TodoistRateLimiter rateLimiter = TodoistRateLimiter.of(token, options.rateLimit(), options.rateLimitBurst());
+        TodoistHttpClient client = TodoistHttpClient.of(token, options.maxConnections(), options.idleConnectionTimeout(), options.http());
+
+        try {
+            return sendWithRetries(runContext, client, rateLimiter, options, request, call);
+        } finally {
+            client.release();
+        }
+    }
+
+    private static <T> TodoistHttpClient.Exchange<T> sendWithRetries(RunContext runContext, TodoistHttpClient client, TodoistRateLimiter rateLimiter, ClientOptions options, HttpRequest request, ExchangeCall<T> call) throws Exception {
+        for (int attempt = 0; ; attempt++) {
+            Duration waited = rateLimiter.acquire();
+            if (!waited.isZero()) {
+                runContext.metric(Timer.of("throttle.wait", waited));
+            }
+
+            long startedAt = System.nanoTime();
+            TodoistHttpClient.Exchange<T> exchange = call.call(client);
+            Duration latency = Duration.ofNanos(System.nanoTime() - startedAt);
+            HttpResponse<T> response = exchange.response();
+            int status = response.getStatus().getCode();
+
+            String endpoint = endpoint(request.getUri());
+            String statusClass = status / 100 + "xx";
+            runContext.metric(Timer.of("request.duration", latency, "endpoint", endpoint, "status", statusClass));
+            runContext.metric(Counter.of("requests", 1, "endpoint", endpoint, "status", statusClass));
+            runContext.metric(Counter.of("bytes.received", exchange.bytesReceived(), "endpoint", endpoint));
+            runContext.metric(Counter.of(exchange.newConnection() ? "connections.opened" : "connections.reused", 1));
+
+            if ((status != 429 && status != 503) || attempt >= options.maxRetries()) {
+                return exchange;
+            }
+
+            Duration delay = retryDelay(response, attempt);
+            rateLimiter.pause(delay);
+            runContext.metric(Counter.of("retries", 1, "status", String.valueOf(status)));
+            runContext.logger().warn("Todoist answered {} on {}, retrying in {} ms ({}/{})", status, request.getUri().getPath(), delay.toMillis(), attempt + 1, options.maxRetries());
+        }
+    }
+
+    /**
+     * Metric tag for a request path, with IDs replaced so every task shares one endpoint, e.g. `/tasks/{id}/close`
+     */
+    static String endpoint(URI uri) {
+        String path = uri.getPath();
+        if (path.startsWith(API_PATH)) {
+            path = path.substring(API_PATH.length());
+        }
+
+        StringBuilder endpoint = new StringBuilder();
+        for (String segment : path.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            endpoint.append('/').append(segment.chars().anyMatch(Character::isDigit) ? "{id}" : segment);
+        }
+        return endpoint.isEmpty() ? "/" : endpoint.toString();
+    }
+
+    /**
+     * Uses `Retry-After` when present, otherwise an exponential backoff; both are jittered so throttled callers do not retry in lockstep
+     */
+    static Duration retryDelay(HttpResponse<?> response, int attempt) {
+        long baseMillis = Math.min(MAX_BACKOFF.toMillis(), 1000L << Math.min(attempt, 16));
+
+        String retryAfter = response.getHeaders() != null ? response.getHeaders().firstValue("Retry-After").orElse(null) : null;
+        if (retryAfter != null) {
+            try {
+                baseMillis = Long.parseLong(retryAfter.trim()) * 1000;
+            } catch (NumberFormatException e) {
+                try {
+                    baseMillis = Math.max(0, Duration.between(Instant.now(), ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME)).toMillis());
+                } catch (DateTimeParseException ignored) {
+                    // keep the exponential backoff
+                }
+            }
+        }
+
+        return Duration.ofMillis(baseMillis + ThreadLocalRandom.current().nextLong(baseMillis / 10 + 1));
+    }
+
+    /**
+     * Posts a batch of commands to the `/sync` endpoint and returns the parsed response
+     */
+    @SuppressWarnings("unchecked")
+    protected Map<String, Object> sendSyncCommands(RunContext runContext, String token, List<Map<String, Object>> commands) throws Exception {
+        String jsonBody = JacksonMapper.ofJson().writeValueAsString(Map.of("commands", commands));
+
+        HttpRequest request = createRequestBuilder(token, baseUrl(runContext) + "/sync")
+            .method("POST")
+            .body(HttpRequest.StringRequestBody.builder().content(jsonBody).build())
             .build();
-        return client.request(request, String.class);
+
+        HttpResponse<String> response = sendRequest(runContext, request);
+
+        if (response.getStatus().getCode() >= 400) {
+            throw new Exception("Failed to sync commands: " + response.getStatus().getCode() + " - " + response.getBody());
+        }
+
+        return JacksonMapper.ofJson().readValue(response.getBody(), Map.class);
+    }
+
+    /**
+     * Builds a `/sync` command with a fresh command uuid
+     */
+    protected static Map<String, Object> syncCommand(String type, String tempId, Map<String, Object> args) {
+        return syncCommand(type, UUID.randomUUID().toString(), tempId, args);
+    }
+
+    /**
+     * Builds a `/sync` command with the given uuid; Todoist applies a command uuid only once, so a stable uuid makes the command retry-safe
+     */
+    protected static Map<String, Object> syncCommand(String type, String uuid, String tempId, Map<String, Object> args) {
+        Map<String, Object> command = new LinkedHashMap<>();
+        command.put("type", type);
+        command.put("uuid", uuid);
+        if (tempId != null) {
+            command.put("temp_id", tempId);
+        }
+        command.put("args", args);
+        return command;
+    }
+
+    /**
+     * Returns the error reported for a command in a `/sync` response, or null when it succeeded
+     */
+    @SuppressWarnings("unchecked")
+    protected static String syncCommandError(Map<String, Object> syncResponse, Map<String, Object> command) {
+        Map<String, Object> syncStatus = (Map<String, Object>) syncResponse.get("sync_status");
+        Object status = syncStatus != null ? syncStatus.get(command.get("uuid").toString()) : null;
+
+        if ("ok".equals(status)) {
+            return null;
+        }
+        if (status instanceof Map<?, ?> error && error.get("error") != null) {
+            return error.get("error").toString();
+        }
+        return status != null ? status.toString() : "No status returned for command";
+    }
+
+    /**
+     * Resolves project and section names through the worker-wide {@link NameCache} of this token and base URL
+     */
+    protected NameCache.Resolver nameResolver(RunContext runContext, String token, Property<Duration> ttl, Property<Boolean> persist) throws IllegalVariableEvaluationException {
+        Duration rTtl = runContext.render(ttl).as(Duration.class).orElse(DEFAULT_NAME_CACHE_TTL);
+        boolean rPersist = runContext.render(persist).as(Boolean.class).orElse(false);
+
+        return NameCache.resolver(runContext, token, baseUrl(runContext), rTtl, rPersist, resource -> listAll(runContext, token, resource));
+    }
+
+    /**
+     * Returns the ID when set, otherwise the ID the name resolves to; setting both is rejected as ambiguous
+     */
+    protected static String resolveId(String id, String name, String resource, IdLookup lookup) throws Exception {
+        if (id != null && name != null) {
+            throw new IllegalArgumentException("Set either the " + resource + " ID or the " + resource + " name, not both");
+        }
+        return name != null ? lookup.resolve(name) : id;
+    }
+
+    @FunctionalInterface
+    protected interface IdLookup {
+        String resolve(String name) throws Exception;
+    }
+
+    /**
+     * Reads every page of a collection endpoint such as `/projects`
+     */
+    protected List<Map<String, Object>> listAll(RunContext runContext, String token, String resource) throws Exception {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        String cursor = null;
+
+        do {
+            String url = baseUrl(runContext) + "/" + resource + "?limit=200" + (cursor != null ? "&cursor=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8) : "");
+            HttpRequest request = createRequestBuilder(token, url)
+                .method("GET")
+                .build();
+
+            TodoistHttpClient.Exchange<String> exchange = sendStreamingRequest(runContext, request, body -> TaskPageParser.parse(body, null, rows::add));
+
+            if (exchange.response().getStatus().getCode() >= 400) {
+                throw new Exception("Failed to list " + resource + ": " + exchange.response().getStatus().getCode() + " - " + exchange.errorBody());
+            }
+
+            cursor = exchange.response().getBody();
+        } while (cursor != null);
+
+        return rows;
+    }
+
+    /**
+     * Collects task IDs from an ID list and from the `taskId` or `id` field of `from` rows, deduplicated in order of first appearance
+     */
+    protected static List<String> readTaskIds(RunContext runContext, Property<List<String>> taskIds, Object from) throws Exception {
+        Set<String> ids = new LinkedHashSet<>(runContext.render(taskIds).asList(String.class));
+
+        if (from != null) {
+            Data.from(from)
+                .readAs(runContext, Map.class, row -> row)
+                .toIterable()
+                .forEach(row -> {
+                    Object id = row.get("taskId") != null ? row.get("taskId") : row.get("id");
+                    if (id == null) {
+                        throw new IllegalArgumentException("Row has no 'taskId' or 'id' field: " + row);
+                    }
+                    ids.add(id.toString());
+                });
+        }
+
+        return new ArrayList<>(ids);
+    }
+
+    /**
+     * Runs the job for every item on its own virtual thread, at most {@code parallelism} at a time, and returns the
+     * results in item order; the first failure cancels the other jobs and is rethrown
+     */
+    static <I, R> List<R> runConcurrently(String threadName, List<I> items, int parallelism, IndexedJob<I, R> job) throws Exception {
+        if (items.isEmpty()) {
+            return List.of();
+        }
+
+        ThreadFactory threadFactory = Thread.ofVirtual().name(threadName + "-", 0).factory();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, items.size())), threadFactory)) {
+            List<Future<R>> futures = new ArrayList<>(items.size());
+            for (int i = 0; i < items.size(); i++) {
+                int index = i;
+                futures.add(executor.submit(() -> job.run(index, items.get(index))));
+            }
+
+            List<R> results = new ArrayList<>(items.size());
+            for (Future<R> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException e) {
+                    futures.forEach(f -> f.cancel(true));
+                    throw e.getCause() instanceof Exception cause ? cause : e;
+                }
+            }
+            return results;
+        }
+    }
+
+    /**
+     * Concatenates the part files into the target in list order, deleting each part once copied
+     */
+    static void joinFiles(List<File> parts, File target) throws IOException {
+        try (OutputStream output = new BufferedOutputStream(new FileOutputStream(target))) {
+            for (File part : parts) {
+                Files.copy(part.toPath(), output);
+                Files.delete(part.toPath());
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface IndexedJob<I, R> {
+        R run(int index, I item) throws Exception;
+    }
+
+    /**
+     * Rendered connection and throttling settings
+     */
+    record ClientOptions(int maxConnections, Duration idleConnectionTimeout, int rateLimit, int rateLimitBurst, int maxRetries, TodoistHttpClient.HttpOptions http) {
+        static final ClientOptions DEFAULTS = new ClientOptions(10, Duration.ofSeconds(30), 60, 60, 5, TodoistHttpClient.HttpOptions.DEFAULTS);
+    }
+
+    @FunctionalInterface
+    private interface ExchangeCall<T> {
+        TodoistHttpClient.Exchange<T> call(TodoistHttpClient client) throws Exception;
     }
 }
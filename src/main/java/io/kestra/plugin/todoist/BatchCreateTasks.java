@@ -0,0 +1,226 @@
+package io.kestra.plugin.todoist;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.property.Data;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import io.kestra.core.models.annotations.PluginProperty;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Create Todoist tasks in bulk",
+    description = "Creates many Todoist tasks through `/sync` `item_add` commands, sending up to 100 commands per request. Rows use the same fields as CreateTask. Failed commands are reported without failing the task. Command uuids are derived from the execution and task run, so a retried run does not create the same rows twice."
+)
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            title = "Create tasks from an inline list",
+            code = """
+                id: todoist_batch_create_tasks
+                namespace: company.team
+
+                tasks:
+                  - id: batch_create
+                    type: io.kestra.plugin.todoist.BatchCreateTasks
+                    apiToken: "{{ secret('TODOIST_API_TOKEN') }}"
+                    from:
+                      - content: "Review pull requests"
+                        priority: 4
+                      - content: "Prepare release notes"
+                        dueString: "tomorrow"
+                        projectId: "2203306141"
+                """
+        ),
+        @Example(
+            full = true,
+            title = "Create tasks from rows stored by an upstream query",
+            code = """
+                id: todoist_batch_create_from_query
+                namespace: company.team
+
+                tasks:
+                  - id: query
+                    type: io.kestra.plugin.jdbc.postgresql.Query
+                    url: jdbc:postgresql://localhost:5432/ops
+                    username: "{{ secret('DB_USER') }}"
+                    password: "{{ secret('DB_PASSWORD') }}"
+                    sql: SELECT title AS content, 'tomorrow' AS "dueString" FROM incidents
+                    fetchType: STORE
+
+                  - id: batch_create
+                    type: io.kestra.plugin.todoist.BatchCreateTasks
+                    apiToken: "{{ secret('TODOIST_API_TOKEN') }}"
+                    from: "{{ outputs.query.uri }}"
+                """
+        )
+    }
+)
+public class BatchCreateTasks extends AbstractTodoistTask implements RunnableTask<BatchCreateTasks.Output>, Data.From {
+
+    @Schema(
+        title = Data.From.TITLE,
+        description = "Rows to create, as an internal storage URI (`kestra://`) of an Ion file or an inline list. Each row takes CreateTask fields: `content` (required), `taskDescription`, `priority`, `projectId`, `dueString`.",
+        anyOf = {String.class, List.class}
+    )
+    @NotNull
+    @PluginProperty(dynamic = true, internalStorageURI = true, group = "main")
+    private Object from;
+
+    @Schema(
+        title = "Batch size",
+        description = "Number of `item_add` commands per `/sync` request; capped at 100, default 100"
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Integer> batchSize = Property.ofValue(MAX_SYNC_COMMANDS);
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        Logger logger = runContext.logger();
+
+        String rToken = runContext.render(apiToken).as(String.class).orElseThrow();
+        int rBatchSize = Math.max(1, Math.min(runContext.render(batchSize).as(Integer.class).orElse(MAX_SYNC_COMMANDS), MAX_SYNC_COMMANDS));
+
+        File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
+        List<Map<String, Object>> failures = new ArrayList<>();
+        long index = 0;
+        long created = 0;
+
+        try (OutputStream output = new BufferedOutputStream(new FileOutputStream(tempFile))) {
+            @SuppressWarnings("rawtypes")
+            Iterable<List<Map>> batches = Data.from(from)
+                .readAs(runContext, Map.class, row -> row)
+                .buffer(rBatchSize)
+                .toIterable();
+
+            for (List<Map> batch : batches) {
+                List<Map<String, Object>> commands = new ArrayList<>(batch.size());
+                List<Long> rowIndexes = new ArrayList<>(batch.size());
+
+                for (Map<?, ?> row : batch) {
+                    // Stable command uuids let a retried run resend a batch without creating its tasks twice
+                    commands.add(syncCommand("item_add", requestId(runContext, "item_add:" + index), requestId(runContext, "temp_id:" + index), toItemArgs(row, index)));
+                    rowIndexes.add(index++);
+                }
+
+                Map<String, Object> syncResponse = sendSyncCommands(runContext, rToken, commands);
+                @SuppressWarnings("unchecked")
+                Map<String, Object> tempIdMapping = (Map<String, Object>) syncResponse.getOrDefault("temp_id_mapping", Map.of());
+
+                for (int i = 0; i < commands.size(); i++) {
+                    Map<String, Object> command = commands.get(i);
+                    String tempId = command.get("temp_id").toString();
+                    String error = syncCommandError(syncResponse, command);
+                    Object taskId = tempIdMapping.get(tempId);
+
+                    if (error == null && taskId != null) {
+                        Map<String, Object> mapping = new LinkedHashMap<>();
+                        mapping.put("index", rowIndexes.get(i));
+                        mapping.put("tempId", tempId);
+                        mapping.put("taskId", taskId.toString());
+                        FileSerde.write(output, mapping);
+                        created++;
+                    } else {
+                        Map<String, Object> failure = new LinkedHashMap<>();
+                        failure.put("index", rowIndexes.get(i));
+                        failure.put("tempId", tempId);
+                        failure.put("error", error != null ? error : "No task ID returned for temp_id");
+                        failures.add(failure);
+                    }
+                }
+
+                logger.debug("Sent {} item_add commands so far", index);
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            logger.warn("{} of {} tasks could not be created", failures.size(), index);
+        }
+        logger.info("Created {} tasks in bulk", created);
+
+        URI uri = runContext.storage().putFile(tempFile);
+
+        return Output.builder()
+            .uri(uri)
+            .created(created)
+            .failed((long) failures.size())
+            .failures(failures)
+            .build();
+    }
+
+    private static Map<String, Object> toItemArgs(Map<?, ?> row, long index) {
+        Object content = row.get("content");
+        if (content == null || content.toString().isBlank()) {
+            throw new IllegalArgumentException("Row " + index + " has no 'content'");
+        }
+
+        Map<String, Object> args = new LinkedHashMap<>();
+        args.put("content", content.toString());
+        putIfPresent(args, "description", row.get("taskDescription"));
+        putIfPresent(args, "priority", row.get("priority"));
+        putIfPresent(args, "project_id", row.get("projectId"));
+        if (row.get("dueString") != null) {
+            args.put("due", Map.of("string", row.get("dueString").toString()));
+        }
+        return args;
+    }
+
+    private static void putIfPresent(Map<String, Object> args, String key, Object value) {
+        if (value != null) {
+            args.put(key, value instanceof Number ? value : value.toString());
+        }
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "URI",
+            description = "Internal storage URI (`kestra://`) of an Ion file mapping each created row (`index`, `tempId`) to its Todoist `taskId`"
+        )
+        private final URI uri;
+
+        @Schema(
+            title = "Created",
+            description = "Number of tasks created"
+        )
+        private final Long created;
+
+        @Schema(
+            title = "Failed",
+            description = "Number of commands rejected by Todoist"
+        )
+        private final Long failed;
+
+        @Schema(
+            title = "Failures",
+            description = "Rejected commands with their row `index`, `tempId` and Todoist `error`"
+        )
+        private final List<Map<String, Object>> failures;
+    }
+}
@@ -0,0 +1,272 @@
+package io.kestra.plugin.todoist;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import io.kestra.core.http.HttpRequest;
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Data;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.models.tasks.common.FetchType;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import io.kestra.core.models.annotations.PluginProperty;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Fetch many Todoist tasks by ID",
+    description = "Reads tasks by ID in chunks through the `ids` parameter of `/tasks`, running several chunks concurrently. Tasks are returned in the order of the requested IDs; IDs Todoist does not return (deleted, completed or unknown tasks) are listed in `notFound` without failing the task."
+)
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            title = "Fetch a list of tasks",
+            code = """
+                id: todoist_batch_get_tasks
+                namespace: company.team
+
+                tasks:
+                  - id: batch_get
+                    type: io.kestra.plugin.todoist.BatchGetTasks
+                    apiToken: "{{ secret('TODOIST_API_TOKEN') }}"
+                    taskIds:
+                      - "7498765432"
+                      - "7498765433"
+                """
+        ),
+        @Example(
+            full = true,
+            title = "Enrich the tasks created by BatchCreateTasks",
+            code = """
+                id: todoist_batch_get_created
+                namespace: company.team
+
+                tasks:
+                  - id: batch_create
+                    type: io.kestra.plugin.todoist.BatchCreateTasks
+                    apiToken: "{{ secret('TODOIST_API_TOKEN') }}"
+                    from:
+                      - content: "Review pull requests"
+                      - content: "Prepare release notes"
+
+                  - id: batch_get
+                    type: io.kestra.plugin.todoist.BatchGetTasks
+                    apiToken: "{{ secret('TODOIST_API_TOKEN') }}"
+                    from: "{{ outputs.batch_create.uri }}"
+                    fetchType: STORE
+                """
+        )
+    }
+)
+public class BatchGetTasks extends AbstractTodoistTask implements RunnableTask<BatchGetTasks.Output> {
+    private static final int MAX_PAGE_SIZE = 200;
+
+    @Schema(
+        title = "Task IDs",
+        description = "Todoist task IDs to read"
+    )
+    @PluginProperty(group = "main")
+    private Property<List<String>> taskIds;
+
+    @Schema(
+        title = Data.From.TITLE,
+        description = "Rows holding the task IDs to read, as an internal storage URI (`kestra://`) of an Ion file or an inline list. The ID is taken from the `taskId` or `id` field of each row, so the outputs of `BatchCreateTasks` and `ListTasks` can be passed as is. Combined with `taskIds` when both are set.",
+        anyOf = {String.class, List.class}
+    )
+    @PluginProperty(dynamic = true, internalStorageURI = true, group = "main")
+    private Object from;
+
+    @Schema(
+        title = "Chunk size",
+        description = "Number of task IDs sent per request; default 100"
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Integer> chunkSize = Property.ofValue(100);
+
+    @Schema(
+        title = "Concurrency",
+        description = "Maximum number of chunks requested at the same time; default 4"
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Integer> concurrency = Property.ofValue(4);
+
+    @Schema(
+        title = "Fetch Type",
+        description = "Output mode: FETCH (all in memory) or STORE (write to internal storage `kestra://`); default FETCH"
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<FetchType> fetchType = Property.ofValue(FetchType.FETCH);
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        Logger logger = runContext.logger();
+
+        String rToken = runContext.render(apiToken).as(String.class).orElseThrow();
+        int rChunkSize = Math.max(1, Math.min(runContext.render(chunkSize).as(Integer.class).orElse(100), MAX_PAGE_SIZE));
+        int rConcurrency = Math.max(1, runContext.render(concurrency).as(Integer.class).orElse(4));
+        FetchType rFetchType = runContext.render(fetchType).as(FetchType.class).orElse(FetchType.FETCH);
+
+        if (rFetchType == FetchType.FETCH_ONE) {
+            throw new IllegalArgumentException("fetchType FETCH_ONE is not supported by BatchGetTasks, use FETCH or STORE");
+        }
+
+        // Duplicate IDs are requested once; the output keeps the order of first appearance
+        List<String> orderedIds = readTaskIds(runContext, taskIds, from);
+        List<List<String>> chunks = new ArrayList<>();
+        for (int i = 0; i < orderedIds.size(); i += rChunkSize) {
+            chunks.add(orderedIds.subList(i, Math.min(i + rChunkSize, orderedIds.size())));
+        }
+
+        // Only the IDs found are kept across chunks; each chunk's tasks go to its own file or list as soon as the
+        // chunk completes, and the results are joined in chunk order
+        Set<String> found = ConcurrentHashMap.newKeySet();
+        Output.OutputBuilder outputBuilder = Output.builder();
+
+        if (rFetchType == FetchType.STORE) {
+            List<File> files = new ArrayList<>(chunks.size());
+            for (int i = 0; i < chunks.size(); i++) {
+                files.add(runContext.workingDir().createTempFile(".ion").toFile());
+            }
+
+            runConcurrently("todoist-batch-get-tasks", chunks, rConcurrency, (index, chunk) -> {
+                try (OutputStream output = new BufferedOutputStream(new FileOutputStream(files.get(index)))) {
+                    fetchChunk(runContext, rToken, chunk, task -> {
+                        FileSerde.write(output, task);
+                        found.add(String.valueOf(task.get("id")));
+                    });
+                }
+                return null;
+            });
+
+            File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
+            joinFiles(files, tempFile);
+            outputBuilder.uri(runContext.storage().putFile(tempFile));
+        } else {
+            List<List<Map<String, Object>>> results = new ArrayList<>(chunks.size());
+            for (int i = 0; i < chunks.size(); i++) {
+                results.add(new ArrayList<>());
+            }
+
+            runConcurrently("todoist-batch-get-tasks", chunks, rConcurrency, (index, chunk) -> {
+                fetchChunk(runContext, rToken, chunk, task -> {
+                    results.get(index).add(task);
+                    found.add(String.valueOf(task.get("id")));
+                });
+                return null;
+            });
+
+            List<Map<String, Object>> rows = new ArrayList<>(found.size());
+            results.forEach(rows::addAll);
+            outputBuilder.rows(rows);
+        }
+
+        List<String> notFound = orderedIds.stream().filter(id -> !found.contains(id)).toList();
+        if (!notFound.isEmpty()) {
+            logger.warn("{} of {} tasks were not found", notFound.size(), orderedIds.size());
+        }
+        runContext.metric(Counter.of("tasks.emitted", found.size()));
+        logger.info("Retrieved {} tasks in {} chunks", found.size(), chunks.size());
+
+        return outputBuilder
+            .size((long) found.size())
+            .notFound(notFound)
+            .build();
+    }
+
+    /**
+     * Reads every page returned for one chunk of IDs, then passes the tasks found to the handler in the order of the
+     * chunk's IDs; only one chunk of tasks is held at a time
+     */
+    private void fetchChunk(RunContext runContext, String token, List<String> chunk, TaskPageParser.TaskHandler handler) throws Exception {
+        Map<String, Map<String, Object>> tasks = new HashMap<>();
+        String cursor = null;
+
+        do {
+            String url = baseUrl(runContext) + "/tasks?ids=" + URLEncoder.encode(String.join(",", chunk), StandardCharsets.UTF_8) + "&limit=" + MAX_PAGE_SIZE
+                + (cursor != null ? "&cursor=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8) : "");
+
+            HttpRequest request = createRequestBuilder(token, url)
+                .method("GET")
+                .build();
+
+            TodoistHttpClient.Exchange<String> exchange;
+            try {
+                exchange = sendStreamingRequest(runContext, request, body -> TaskPageParser.parse(body, null, task -> tasks.put(String.valueOf(task.get("id")), task)));
+            } catch (JsonProcessingException e) {
+                throw new Exception("Failed to parse tasks response: " + e.getOriginalMessage(), e);
+            }
+
+            if (exchange.response().getStatus().getCode() >= 400) {
+                throw new Exception("Failed to get tasks: " + exchange.response().getStatus().getCode() + " - " + exchange.errorBody());
+            }
+
+            runContext.metric(Counter.of("pages", 1));
+            cursor = exchange.response().getBody();
+        } while (cursor != null);
+
+        for (String id : chunk) {
+            Map<String, Object> task = tasks.get(id);
+            if (task != null) {
+                handler.accept(task);
+            }
+        }
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "Rows",
+            description = "Tasks found, in the order of the requested IDs, when fetchType is FETCH"
+        )
+        private final List<Map<String, Object>> rows;
+
+        @Schema(
+            title = "URI",
+            description = "Internal storage URI (`kestra://`) of an Ion file with the tasks found, when fetchType is STORE"
+        )
+        private final URI uri;
+
+        @Schema(
+            title = "Size",
+            description = "Number of tasks found"
+        )
+        private final Long size;
+
+        @Schema(
+            title = "Not found",
+            description = "Requested IDs Todoist did not return, e.g., deleted, completed or unknown tasks"
+        )
+        private final List<String> notFound;
+    }
+}
@@ -0,0 +1,76 @@
+package io.kestra.plugin.todoist;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Complete Todoist tasks in bulk",
+    description = "Completes many Todoist tasks through `/sync` `item_close` commands, sending up to 100 commands per request. The status of each ID is stored in an Ion file; rejected IDs are counted without failing the task."
+)
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            title = "Complete a list of tasks",
+            code = """
+                id: todoist_bulk_complete_tasks
+                namespace: company.team
+
+                tasks:
+                  - id: bulk_complete
+                    type: io.kestra.plugin.todoist.BulkCompleteTasks
+                    apiToken: "{{ secret('TODOIST_API_TOKEN') }}"
+                    taskIds:
+                      - "7498765432"
+                      - "7498765433"
+                """
+        ),
+        @Example(
+            full = true,
+            title = "Nightly close of stale overdue tasks",
+            code = """
+                id: todoist_close_stale_tasks
+                namespace: company.team
+
+                tasks:
+                  - id: stale_tasks
+                    type: io.kestra.plugin.todoist.ListTasks
+                    apiToken: "{{ secret('TODOIST_API_TOKEN') }}"
+                    filter: "due before: -30 days"
+                    fields:
+                      - id
+                    fetchType: STORE
+
+                  - id: close_stale_tasks
+                    type: io.kestra.plugin.todoist.BulkCompleteTasks
+                    apiToken: "{{ secret('TODOIST_API_TOKEN') }}"
+                    from: "{{ outputs.stale_tasks.uri }}"
+
+                triggers:
+                  - id: nightly
+                    type: io.kestra.plugin.core.trigger.Schedule
+                    cron: "0 2 * * *"
+                """
+        )
+    }
+)
+public class BulkCompleteTasks extends AbstractBulkTaskCommand {
+    @Override
+    protected String commandType() {
+        return "item_close";
+    }
+
+    @Override
+    protected String action() {
+        return "completed";
+    }
+}
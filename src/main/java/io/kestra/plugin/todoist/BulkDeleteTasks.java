@@ -0,0 +1,67 @@
+package io.kestra.plugin.todoist;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Delete Todoist tasks in bulk",
+    description = "Permanently deletes many Todoist tasks through `/sync` `item_delete` commands, sending up to 100 commands per request. The status of each ID is stored in an Ion file; rejected IDs are counted without failing the task."
+)
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            title = "Delete a list of tasks",
+            code = """
+                id: todoist_bulk_delete_tasks
+                namespace: company.team
+
+                tasks:
+                  - id: bulk_delete
+                    type: io.kestra.plugin.todoist.BulkDeleteTasks
+                    apiToken: "{{ secret('TODOIST_API_TOKEN') }}"
+                    taskIds:
+                      - "7498765432"
+                      - "7498765433"
+                """
+        ),
+        @Example(
+            full = true,
+            title = "Delete the tasks created by an earlier batch",
+            code = """
+                id: todoist_bulk_delete_created
+                namespace: company.team
+
+                inputs:
+                  - id: created
+                    type: FILE
+
+                tasks:
+                  - id: bulk_delete
+                    type: io.kestra.plugin.todoist.BulkDeleteTasks
+                    apiToken: "{{ secret('TODOIST_API_TOKEN') }}"
+                    from: "{{ inputs.created }}"
+                """
+        )
+    }
+)
+public class BulkDeleteTasks extends AbstractBulkTaskCommand {
+    @Override
+    protected String commandType() {
+        return "item_delete";
+    }
+
+    @Override
+    protected String action() {
+        return "deleted";
+    }
+}
@@ -0,0 +1,69 @@
+package io.kestra.plugin.todoist;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Reopen completed Todoist tasks in bulk",
+    description = "Reopens many completed Todoist tasks through `/sync` `item_uncomplete` commands, sending up to 100 commands per request. The status of each ID is stored in an Ion file; rejected IDs are counted without failing the task."
+)
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            title = "Reopen a list of tasks",
+            code = """
+                id: todoist_bulk_reopen_tasks
+                namespace: company.team
+
+                tasks:
+                  - id: bulk_reopen
+                    type: io.kestra.plugin.todoist.BulkReopenTasks
+                    apiToken: "{{ secret('TODOIST_API_TOKEN') }}"
+                    taskIds:
+                      - "7498765432"
+                      - "7498765433"
+                """
+        ),
+        @Example(
+            full = true,
+            title = "Undo a bulk completion",
+            code = """
+                id: todoist_undo_bulk_complete
+                namespace: company.team
+
+                tasks:
+                  - id: bulk_complete
+                    type: io.kestra.plugin.todoist.BulkCompleteTasks
+                    apiToken: "{{ secret('TODOIST_API_TOKEN') }}"
+                    taskIds:
+                      - "7498765432"
+
+                  - id: bulk_reopen
+                    type: io.kestra.plugin.todoist.BulkReopenTasks
+                    apiToken: "{{ secret('TODOIST_API_TOKEN') }}"
+                    from: "{{ outputs.bulk_complete.uri }}"
+                """
+        )
+    }
+)
+public class BulkReopenTasks extends AbstractBulkTaskCommand {
+    @Override
+    protected String commandType() {
+        return "item_uncomplete";
+    }
+
+    @Override
+    protected String action() {
+        return "reopened";
+    }
+}
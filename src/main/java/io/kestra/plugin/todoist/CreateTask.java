@@ -1,5 +1,6 @@
 package io.kestra.plugin.todoist;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -9,6 +10,7 @@ import io.kestra.core.http.HttpRequest;
 import io.kestra.core.http.HttpResponse;
 import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.executions.metrics.Counter;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
@@ -27,7 +29,7 @@ import io.kestra.core.models.annotations.PluginProperty;
 @NoArgsConstructor
 @Schema(
     title = "Create Todoist task",
-    description = "Creates a Todoist task with required content plus optional description, priority, project, and natural-language due date. Uses Todoist API v1; fails on HTTP 4xx/5xx."
+    description = "Creates a Todoist task with required content plus optional description, priority, project and section (by ID or name), and natural-language due date. Uses Todoist API v1; fails on HTTP 4xx/5xx. Sends an `X-Request-Id` derived from the execution and task run, so Kestra retries do not create duplicate tasks."
 )
 @Plugin(
     examples = {
@@ -61,6 +63,43 @@ import io.kestra.core.models.annotations.PluginProperty;
                     priority: 4
                     dueString: "tomorrow"
                 """
+        ),
+        @Example(
+            full = true,
+            title = "Create a task in a project and section given by name",
+            code = """
+                id: todoist_create_task_by_name
+                namespace: company.team
+
+                tasks:
+                  - id: create_task
+                    type: io.kestra.plugin.todoist.CreateTask
+                    apiToken: "{{ secret('TODOIST_API_TOKEN') }}"
+                    content: "Rotate on-call schedule"
+                    projectName: "Operations"
+                    sectionName: "Weekly"
+                    persistNameCache: true
+                """
+        ),
+        @Example(
+            full = true,
+            title = "Open one task per incident, however often the alert fires",
+            code = """
+                id: todoist_incident_task
+                namespace: company.team
+
+                inputs:
+                  - id: incident_id
+                    type: STRING
+
+                tasks:
+                  - id: create_task
+                    type: io.kestra.plugin.todoist.CreateTask
+                    apiToken: "{{ secret('TODOIST_API_TOKEN') }}"
+                    content: "Investigate incident {{ inputs.incident_id }}"
+                    projectId: "2203306141"
+                    dedupeKey: "{{ inputs.incident_id }}"
+                """
         )
     }
 )
@@ -95,6 +134,27 @@ public class CreateTask extends AbstractTodoistTask implements RunnableTask<Crea
     @PluginProperty(group = "connection")
     private Property<String> projectId;
 
+    @Schema(
+        title = "Project name",
+        description = "Target project by name instead of ID; resolved through the worker's cached name lookup (see `nameCacheTtl`)"
+    )
+    @PluginProperty(group = "connection")
+    private Property<String> projectName;
+
+    @Schema(
+        title = "Section ID",
+        description = "Target section ID within the project"
+    )
+    @PluginProperty(group = "connection")
+    private Property<String> sectionId;
+
+    @Schema(
+        title = "Section name",
+        description = "Target section by name instead of ID, looked up within the project when one is set"
+    )
+    @PluginProperty(group = "connection")
+    private Property<String> sectionName;
+
     @Schema(
         title = "Due string",
         description = "Natural-language due date parsed by Todoist (e.g., 'tomorrow', 'next Monday', '2025-12-31')"
@@ -102,6 +162,37 @@ public class CreateTask extends AbstractTodoistTask implements RunnableTask<Crea
     @PluginProperty(group = "advanced")
     private Property<String> dueString;
 
+    @Schema(
+        title = "Name cache TTL",
+        description = "How long the project and section names of this API token are reused by the worker before `/projects` and `/sections` are read again; an unknown name triggers a reload. Default PT15M"
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Duration> nameCacheTtl = Property.ofValue(DEFAULT_NAME_CACHE_TTL);
+
+    @Schema(
+        title = "Persist name cache",
+        description = "Also keep the project and section names in the namespace KV store for `nameCacheTtl`, so other workers reuse them; default false"
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Boolean> persistNameCache = Property.ofValue(false);
+
+    @Schema(
+        title = "Dedupe key",
+        description = "Identifies the task to create, e.g. an incident ID. While a task created with this key in the project is still active, the run returns that task instead of creating another one, answered from an index kept in the namespace KV store without calling Todoist. Keys of completed or deleted tasks are dropped when the index is refreshed."
+    )
+    @PluginProperty(group = "advanced")
+    private Property<String> dedupeKey;
+
+    @Schema(
+        title = "Dedupe refresh interval",
+        description = "How often the dedupe index asks `/sync` for the tasks completed or deleted since its last refresh; in between, duplicates are answered without calling Todoist. Default PT5M"
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Duration> dedupeRefreshInterval = Property.ofValue(Duration.ofMinutes(5));
+
     @Override
     public Output run(RunContext runContext) throws Exception {
         Logger logger = runContext.logger();
@@ -114,12 +205,72 @@ public class CreateTask extends AbstractTodoistTask implements RunnableTask<Crea
 
         runContext.render(taskDescription).as(String.class).ifPresent(d -> requestBody.put("description", d));
         runContext.render(priority).as(Integer.class).ifPresent(p -> requestBody.put("priority", p));
-        runContext.render(projectId).as(String.class).ifPresent(p -> requestBody.put("project_id", p));
+        NameCache.Resolver names = nameResolver(runContext, rToken, nameCacheTtl, persistNameCache);
+        String rProjectId = resolveId(runContext.render(projectId).as(String.class).orElse(null), runContext.render(projectName).as(String.class).orElse(null), "project", names::projectId);
+        String rSectionId = resolveId(runContext.render(sectionId).as(String.class).orElse(null), runContext.render(sectionName).as(String.class).orElse(null), "section", name -> names.sectionId(name, rProjectId));
+        if (rProjectId != null) {
+            requestBody.put("project_id", rProjectId);
+        }
+        if (rSectionId != null) {
+            requestBody.put("section_id", rSectionId);
+        }
         runContext.render(dueString).as(String.class).ifPresent(d -> requestBody.put("due_string", d));
 
+        String rDedupeKey = runContext.render(dedupeKey).as(String.class).orElse(null);
+        if (rDedupeKey == null) {
+            return Output.builder()
+                .taskId(create(runContext, rToken, requestBody))
+                .deduplicated(false)
+                .build();
+        }
+
+        Duration rRefreshInterval = runContext.render(dedupeRefreshInterval).as(Duration.class).orElse(Duration.ofMinutes(5));
+        String indexKey = DedupeIndex.key(rToken, rProjectId);
+
+        synchronized (DedupeIndex.lock(indexKey)) {
+            DedupeIndex.Index loaded = DedupeIndex.load(runContext, indexKey);
+            DedupeIndex.Index index = loaded;
+            boolean refreshed = index.isStale(rRefreshInterval);
+            if (refreshed) {
+                index = DedupeIndex.refresh(request -> sendRequest(runContext, request), baseUrl(runContext), rToken, index);
+            }
+
+            String existingTaskId = index.entries().get(rDedupeKey);
+            if (existingTaskId != null) {
+                if (refreshed) {
+                    DedupeIndex.saveMerged(runContext, indexKey, loaded, index);
+                }
+                runContext.metric(Counter.of("dedupe.hits", 1));
+                logger.info("Task with dedupe key '{}' already exists: {}", rDedupeKey, existingTaskId);
+
+                return Output.builder()
+                    .taskId(existingTaskId)
+                    .deduplicated(true)
+                    .build();
+            }
+
+            String taskId = create(runContext, rToken, requestBody);
+            Map<String, String> entries = new HashMap<>(index.entries());
+            entries.put(rDedupeKey, taskId);
+            // Re-read the stored index so keys added meanwhile by runs on other workers are kept
+            DedupeIndex.Index saved = DedupeIndex.saveMerged(runContext, indexKey, loaded, new DedupeIndex.Index(index.syncToken(), index.refreshedAt(), entries));
+            runContext.metric(Counter.of("dedupe.misses", 1));
+            if (!taskId.equals(saved.entries().get(rDedupeKey))) {
+                logger.warn("Another run created task {} for dedupe key '{}' at the same time; the index keeps that task", saved.entries().get(rDedupeKey), rDedupeKey);
+            }
+
+            return Output.builder()
+                .taskId(taskId)
+                .deduplicated(false)
+                .build();
+        }
+    }
+
+    private String create(RunContext runContext, String token, Map<String, Object> requestBody) throws Exception {
         String jsonBody = JacksonMapper.ofJson().writeValueAsString(requestBody);
 
-        HttpRequest request = createRequestBuilder(rToken, BASE_URL + "/tasks")
+        // A retried attempt sends the same request id, so Todoist does not create the task twice
+        HttpRequest request = createIdempotentRequestBuilder(runContext, token, baseUrl(runContext) + "/tasks", "create")
             .method("POST")
             .body(HttpRequest.StringRequestBody.builder().content(jsonBody).build())
             .build();
@@ -130,14 +281,12 @@ public class CreateTask extends AbstractTodoistTask implements RunnableTask<Crea
             throw new Exception("Failed to create task: " + response.getStatus().getCode() + " - " + response.getBody());
         }
 
-        logger.info("Task created successfully");
+        runContext.logger().info("Task created successfully");
 
         @SuppressWarnings("unchecked")
         Map<String, Object> result = JacksonMapper.ofJson().readValue(response.getBody(), Map.class);
 
-        return Output.builder()
-            .taskId(result.get("id").toString())
-            .build();
+        return result.get("id").toString();
     }
 
     @Builder
@@ -148,5 +297,11 @@ public class CreateTask extends AbstractTodoistTask implements RunnableTask<Crea
             description = "The ID of the created task"
         )
         private final String taskId;
+
+        @Schema(
+            title = "Deduplicated",
+            description = "True when an active task with the same `dedupeKey` was returned instead of creating one"
+        )
+        private final Boolean deduplicated;
     }
 }
@@ -0,0 +1,169 @@
+package io.kestra.plugin.todoist;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.kestra.core.http.HttpRequest;
+import io.kestra.core.http.HttpResponse;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.core.storages.kv.KVMetadata;
+import io.kestra.core.storages.kv.KVStore;
+import io.kestra.core.storages.kv.KVValue;
+import io.kestra.core.storages.kv.KVValueAndMetadata;
+
+/**
+ * Per-project index of {@link CreateTask} dedupe keys to task IDs, kept in the namespace KV store.
+ * <p>
+ * Entries are looked up in a hash map, so a duplicate create is answered without calling Todoist. Once the refresh
+ * interval has elapsed, the index asks `/sync` for the items changed since its last `sync_token` and drops the keys of
+ * tasks that were completed or deleted in the meantime. Updates are merged into the index stored at save time, so
+ * runs on other workers keep the keys they added.
+ */
+final class DedupeIndex {
+    private static final Map<String, Object> LOCKS = new ConcurrentHashMap<>();
+
+    private DedupeIndex() {
+    }
+
+    /**
+     * Dedupe keys and their task IDs, with the `sync_token` and time of the last refresh.
+     */
+    record Index(String syncToken, Instant refreshedAt, Map<String, String> entries) {
+        boolean isStale(Duration refreshInterval) {
+            return syncToken == null || refreshedAt == null || refreshedAt.plus(refreshInterval).isBefore(Instant.now());
+        }
+    }
+
+    /**
+     * Serializes index updates of concurrent runs on this worker, so two runs with the same key create one task.
+     */
+    static Object lock(String key) {
+        return LOCKS.computeIfAbsent(key, k -> new Object());
+    }
+
+    /**
+     * KV key of a project's index, unique to the API token; the Inbox is used when no project is given.
+     */
+    static String key(String token, String projectId) {
+        String project = projectId != null ? projectId : "inbox";
+        return ("todoist_dedupe_" + TodoistHttpClient.hash(token).substring(0, 16) + "_" + project).replaceAll("[^a-zA-Z0-9._-]", "_");
+    }
+
+    @SuppressWarnings("unchecked")
+    static Index load(RunContext runContext, String key) throws Exception {
+        KVStore kvStore = runContext.namespaceKv(runContext.flowInfo().namespace());
+        Optional<KVValue> value = kvStore.getValue(key);
+
+        if (value.isEmpty() || !(value.get().value() instanceof Map<?, ?> stored)) {
+            return new Index(null, null, new HashMap<>());
+        }
+
+        Object syncToken = stored.get("syncToken");
+        Object refreshedAt = stored.get("refreshedAt");
+        Map<String, String> entries = stored.get("entries") instanceof Map<?, ?> map ? new HashMap<>((Map<String, String>) map) : new HashMap<>();
+
+        return new Index(
+            syncToken != null ? syncToken.toString() : null,
+            refreshedAt != null ? Instant.parse(refreshedAt.toString()) : null,
+            entries
+        );
+    }
+
+    static void save(RunContext runContext, String key, Index index) throws Exception {
+        Map<String, Object> stored = new LinkedHashMap<>();
+        stored.put("syncToken", index.syncToken());
+        stored.put("refreshedAt", index.refreshedAt() != null ? index.refreshedAt().toString() : null);
+        stored.put("entries", index.entries());
+
+        KVStore kvStore = runContext.namespaceKv(runContext.flowInfo().namespace());
+        kvStore.put(key, new KVValueAndMetadata(new KVMetadata("Todoist CreateTask dedupe index", (Duration) null), stored));
+    }
+
+    /**
+     * Saves the changes between {@code base}, the index as loaded, and {@code updated} on top of the index stored now:
+     * keys dropped by a refresh are removed and new keys are added unless another run stored the key first. When
+     * another run saved in the meantime, the older `sync_token` is kept, so the next refresh also covers the tasks of
+     * the keys this run did not see. Returns the saved index.
+     */
+    static Index saveMerged(RunContext runContext, String key, Index base, Index updated) throws Exception {
+        Index stored = load(runContext, key);
+        Map<String, String> entries = new HashMap<>(stored.entries());
+
+        base.entries().forEach((dedupeKey, taskId) -> {
+            if (!taskId.equals(updated.entries().get(dedupeKey))) {
+                entries.remove(dedupeKey, taskId);
+            }
+        });
+        updated.entries().forEach((dedupeKey, taskId) -> {
+            if (!taskId.equals(base.entries().get(dedupeKey))) {
+                entries.putIfAbsent(dedupeKey, taskId);
+            }
+        });
+
+        boolean storedUnchanged = Objects.equals(stored.syncToken(), base.syncToken()) && stored.entries().equals(base.entries());
+        Index checkpoint = storedUnchanged || stored.syncToken() == null || stored.refreshedAt() == null
+            || (updated.refreshedAt() != null && updated.refreshedAt().isBefore(stored.refreshedAt())) ? updated : stored;
+        Index merged = new Index(checkpoint.syncToken(), checkpoint.refreshedAt(), entries);
+        save(runContext, key, merged);
+        return merged;
+    }
+
+    /**
+     * Drops the keys of tasks completed or deleted since the last refresh. A new index only records the current
+     * `sync_token`, read with the small `user` resource, as the starting point of later refreshes.
+     */
+    static Index refresh(TodoistSync.Sender sender, String baseUrl, String token, Index index) throws Exception {
+        if (index.syncToken() == null) {
+            return new Index(baselineToken(sender, baseUrl, token), Instant.now(), index.entries());
+        }
+
+        TodoistSync.Delta delta = TodoistSync.fetchItems(sender, baseUrl, token, new TodoistSync.State(index.syncToken(), null));
+        Map<String, String> entries = new HashMap<>(index.entries());
+
+        if (delta.fullSync()) {
+            // Todoist no longer accepts the token and returned every active task: keep only the keys of those
+            Set<String> active = new HashSet<>();
+            delta.added().forEach(item -> active.add(String.valueOf(item.get("id"))));
+            entries.values().retainAll(active);
+        } else {
+            Set<String> removed = new HashSet<>();
+            delta.completed().forEach(item -> removed.add(String.valueOf(item.get("id"))));
+            delta.deleted().forEach(item -> removed.add(String.valueOf(item.get("id"))));
+            entries.values().removeAll(removed);
+        }
+
+        return new Index(delta.syncToken(), Instant.now(), entries);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String baselineToken(TodoistSync.Sender sender, String baseUrl, String token) throws Exception {
+        Map<String, Object> requestBody = Map.of("sync_token", TodoistSync.FULL_SYNC_TOKEN, "resource_types", List.of("user"));
+
+        HttpRequest request = AbstractTodoistTask.requestBuilder(token, baseUrl + "/sync")
+            .method("POST")
+            .body(HttpRequest.StringRequestBody.builder().content(JacksonMapper.ofJson().writeValueAsString(requestBody)).build())
+            .build();
+
+        HttpResponse<String> response = sender.send(request);
+
+        if (response.getStatus().getCode() >= 400) {
+            throw new Exception("Failed to read sync token: " + response.getStatus().getCode() + " - " + response.getBody());
+        }
+
+        Object syncToken = JacksonMapper.ofJson().readValue(response.getBody(), Map.class).get("sync_token");
+        if (syncToken == null) {
+            throw new Exception("Todoist sync response did not contain a sync_token");
+        }
+        return syncToken.toString();
+    }
+}
@@ -61,11 +61,12 @@ public class DeleteTask extends AbstractTodoistTask implements RunnableTask<Void
         String rToken = runContext.render(apiToken).as(String.class).orElseThrow();
         String rTaskId = runContext.render(taskId).as(String.class).orElseThrow();
 
-        HttpRequest request = createRequestBuilder(rToken, BASE_URL + "/tasks/" + rTaskId)
+        HttpRequest request = createRequestBuilder(rToken, baseUrl(runContext) + "/tasks/" + rTaskId)
             .method("DELETE")
             .build();
 
         HttpResponse<String> response = sendRequest(runContext, request);
+        TaskCache.invalidate(rToken, rTaskId);
 
         if (response.getStatus().getCode() >= 400) {
             throw new Exception("Failed to delete task: " + response.getStatus().getCode() + " - " + response.getBody());
@@ -0,0 +1,258 @@
+package io.kestra.plugin.todoist;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.kestra.core.http.HttpRequest;
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.serializers.JacksonMapper;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import io.kestra.core.models.annotations.PluginProperty;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Export a Todoist workspace snapshot",
+    description = "Reads a full snapshot of the selected resource types with a single `/sync` call (`sync_token=*`). Each resource type is streamed into its own Ion file in internal storage while the response is read, so the snapshot is never held in memory."
+)
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            title = "Export tasks, projects, sections and labels every night",
+            code = """
+                id: todoist_export_workspace
+                namespace: company.team
+
+                tasks:
+                  - id: export
+                    type: io.kestra.plugin.todoist.ExportWorkspace
+                    apiToken: "{{ secret('TODOIST_API_TOKEN') }}"
+                    resourceTypes:
+                      - ITEMS
+                      - PROJECTS
+                      - SECTIONS
+                      - LABELS
+
+                triggers:
+                  - id: nightly
+                    type: io.kestra.plugin.core.trigger.Schedule
+                    cron: "0 2 * * *"
+                """
+        ),
+        @Example(
+            full = true,
+            title = "Export everything and log the project file",
+            code = """
+                id: todoist_export_all
+                namespace: company.team
+
+                tasks:
+                  - id: export
+                    type: io.kestra.plugin.todoist.ExportWorkspace
+                    apiToken: "{{ secret('TODOIST_API_TOKEN') }}"
+
+                  - id: log_projects
+                    type: io.kestra.plugin.core.log.Log
+                    message: "{{ outputs.export.resources.projects.count }} projects in {{ outputs.export.resources.projects.uri }}"
+                """
+        )
+    }
+)
+public class ExportWorkspace extends AbstractTodoistTask implements RunnableTask<ExportWorkspace.Output> {
+    private static final ObjectMapper MAPPER = JacksonMapper.ofJson();
+    private static final TypeReference<Map<String, Object>> RESOURCE_TYPE = new TypeReference<>() {};
+
+    @Schema(
+        title = "Resource types",
+        description = "Resource types to export: ITEMS (active tasks), PROJECTS, SECTIONS, LABELS and NOTES (task comments); all of them by default"
+    )
+    @Builder.Default
+    @PluginProperty(group = "main")
+    private Property<List<ResourceType>> resourceTypes = Property.ofValue(List.of(ResourceType.values()));
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        Logger logger = runContext.logger();
+
+        String rToken = runContext.render(apiToken).as(String.class).orElseThrow();
+        List<ResourceType> rResourceTypes = runContext.render(resourceTypes).asList(ResourceType.class);
+        if (rResourceTypes.isEmpty()) {
+            throw new IllegalArgumentException("At least one resource type must be exported");
+        }
+
+        Map<ResourceType, File> files = new EnumMap<>(ResourceType.class);
+        for (ResourceType type : rResourceTypes) {
+            files.put(type, runContext.workingDir().createTempFile(".ion").toFile());
+        }
+
+        Map<String, Object> requestBody = new LinkedHashMap<>();
+        requestBody.put("sync_token", TodoistSync.FULL_SYNC_TOKEN);
+        requestBody.put("resource_types", files.keySet().stream().map(ResourceType::value).toList());
+
+        HttpRequest request = createRequestBuilder(rToken, baseUrl(runContext) + "/sync")
+            .method("POST")
+            .body(HttpRequest.StringRequestBody.builder().content(MAPPER.writeValueAsString(requestBody)).build())
+            .build();
+
+        TodoistHttpClient.Exchange<Snapshot> exchange;
+        try {
+            exchange = sendStreamingRequest(runContext, request, body -> readSnapshot(body, files));
+        } catch (JsonProcessingException e) {
+            throw new Exception("Failed to parse sync response: " + e.getOriginalMessage(), e);
+        }
+
+        if (exchange.response().getStatus().getCode() >= 400) {
+            throw new Exception("Failed to export workspace: " + exchange.response().getStatus().getCode() + " - " + exchange.errorBody());
+        }
+
+        Snapshot snapshot = exchange.response().getBody();
+        Map<String, Resource> resources = new LinkedHashMap<>();
+        for (Map.Entry<ResourceType, File> file : files.entrySet()) {
+            long count = snapshot.counts().getOrDefault(file.getKey(), 0L);
+            runContext.metric(Counter.of("resources.emitted", count, "type", file.getKey().value()));
+
+            resources.put(file.getKey().value(), Resource.builder()
+                .uri(runContext.storage().putFile(file.getValue()))
+                .count(count)
+                .build());
+        }
+
+        logger.info("Exported {}", resources.entrySet().stream().map(e -> e.getValue().getCount() + " " + e.getKey()).toList());
+
+        return Output.builder()
+            .resources(resources)
+            .syncToken(snapshot.syncToken())
+            .build();
+    }
+
+    /**
+     * Streams the arrays of the selected resource types into their files, one object at a time, and picks up the
+     * `sync_token` in the same pass. Files are reopened on each call, so a retried request starts from empty files.
+     */
+    private static Snapshot readSnapshot(InputStream body, Map<ResourceType, File> files) throws IOException {
+        Map<ResourceType, Long> counts = new EnumMap<>(ResourceType.class);
+        String syncToken = null;
+
+        try (JsonParser parser = MAPPER.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON sync response object");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                ResourceType type = ResourceType.of(field);
+
+                if (type != null && files.containsKey(type) && value == JsonToken.START_ARRAY) {
+                    long count = 0;
+                    try (OutputStream output = new BufferedOutputStream(new FileOutputStream(files.get(type)))) {
+                        while (parser.nextToken() == JsonToken.START_OBJECT) {
+                            FileSerde.write(output, MAPPER.readValue(parser, RESOURCE_TYPE));
+                            count++;
+                        }
+                    }
+                    counts.put(type, count);
+                } else if ("sync_token".equals(field)) {
+                    syncToken = parser.getValueAsString();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        return new Snapshot(syncToken, counts);
+    }
+
+    private record Snapshot(String syncToken, Map<ResourceType, Long> counts) {
+    }
+
+    public enum ResourceType {
+        ITEMS("items"),
+        PROJECTS("projects"),
+        SECTIONS("sections"),
+        LABELS("labels"),
+        NOTES("notes");
+
+        private final String value;
+
+        ResourceType(String value) {
+            this.value = value;
+        }
+
+        String value() {
+            return value;
+        }
+
+        static ResourceType of(String value) {
+            for (ResourceType type : values()) {
+                if (type.value.equals(value)) {
+                    return type;
+                }
+            }
+            return null;
+        }
+    }
+
+    @Builder
+    @Getter
+    public static class Resource {
+        @Schema(
+            title = "URI",
+            description = "Internal storage URI (`kestra://`) of an Ion file with one row per resource"
+        )
+        private final URI uri;
+
+        @Schema(
+            title = "Count",
+            description = "Number of resources exported"
+        )
+        private final Long count;
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "Resources",
+            description = "Exported file and row count per resource type (`items`, `projects`, `sections`, `labels`, `notes`)"
+        )
+        private final Map<String, Resource> resources;
+
+        @Schema(
+            title = "Sync token",
+            description = "`sync_token` of the snapshot, to continue with incremental syncs from this point"
+        )
+        private final String syncToken;
+    }
+}
@@ -0,0 +1,114 @@
+package io.kestra.plugin.todoist;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.kestra.core.serializers.JacksonMapper;
+
+/**
+ * Keeps only selected dotted paths (e.g. `id`, `due.date`) of a task object while it is being parsed.
+ * <p>
+ * Fields outside the projection are skipped at the token level and never materialized. Paths select
+ * object members only; an array is kept or dropped as a whole.
+ */
+final class FieldProjection {
+    private static final ObjectMapper MAPPER = JacksonMapper.ofJson();
+
+    private final Node root = new Node();
+
+    private FieldProjection() {
+    }
+
+    /**
+     * Compiles the paths, or returns null when no projection is requested.
+     */
+    static FieldProjection of(List<String> paths) {
+        if (paths == null || paths.isEmpty()) {
+            return null;
+        }
+
+        FieldProjection projection = new FieldProjection();
+        for (String path : paths) {
+            Node node = projection.root;
+            for (String segment : path.trim().split("\\.")) {
+                if (segment.isEmpty()) {
+                    throw new IllegalArgumentException("Invalid field path '" + path + "'");
+                }
+                node = node.children.computeIfAbsent(segment, k -> new Node());
+            }
+            // A shorter path selects the whole value, whatever longer paths below it ask for
+            node.whole = true;
+        }
+        return projection;
+    }
+
+    /**
+     * Reads the object the parser is positioned on ({@code START_OBJECT}) and returns the selected fields.
+     */
+    Map<String, Object> read(JsonParser parser) throws IOException {
+        return readObject(parser, root);
+    }
+
+    /**
+     * Applies the projection to an already parsed task, e.g. one served from {@link TaskCache}.
+     */
+    Map<String, Object> apply(Map<String, Object> task) {
+        return applyObject(task, root);
+    }
+
+    private static Map<String, Object> applyObject(Map<?, ?> source, Node node) {
+        Map<String, Object> result = new LinkedHashMap<>();
+
+        for (Map.Entry<?, ?> entry : source.entrySet()) {
+            String name = String.valueOf(entry.getKey());
+            Node child = node.children.get(name);
+
+            if (child == null) {
+                continue;
+            }
+            if (child.whole || entry.getValue() == null) {
+                result.put(name, entry.getValue());
+            } else if (entry.getValue() instanceof Map<?, ?> value) {
+                result.put(name, applyObject(value, child));
+            }
+        }
+
+        return result;
+    }
+
+    private static Map<String, Object> readObject(JsonParser parser, Node node) throws IOException {
+        Map<String, Object> result = new LinkedHashMap<>();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            Node child = node.children.get(name);
+
+            if (child == null) {
+                parser.skipChildren();
+            } else if (child.whole) {
+                result.put(name, MAPPER.readValue(parser, Object.class));
+            } else if (value == JsonToken.START_OBJECT) {
+                result.put(name, readObject(parser, child));
+            } else if (value == JsonToken.VALUE_NULL) {
+                result.put(name, null);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        return result;
+    }
+
+    private static class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private boolean whole;
+    }
+}
@@ -1,5 +1,7 @@
 package io.kestra.plugin.todoist;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 
 import org.slf4j.Logger;
@@ -8,6 +10,7 @@ import io.kestra.core.http.HttpRequest;
 import io.kestra.core.http.HttpResponse;
 import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.executions.metrics.Counter;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
@@ -43,6 +46,40 @@ import io.kestra.core.models.annotations.PluginProperty;
                     apiToken: "{{ secret('TODOIST_API_TOKEN') }}"
                     taskId: "7498765432"
                 """
+        ),
+        @Example(
+            full = true,
+            title = "Get only the status fields of a task",
+            code = """
+                id: todoist_get_task_fields
+                namespace: company.team
+
+                tasks:
+                  - id: get_task_fields
+                    type: io.kestra.plugin.todoist.GetTask
+                    apiToken: "{{ secret('TODOIST_API_TOKEN') }}"
+                    taskId: "7498765432"
+                    fields:
+                      - id
+                      - checked
+                      - due.date
+                """
+        ),
+        @Example(
+            full = true,
+            title = "Poll a task status from the worker cache",
+            code = """
+                id: todoist_get_task_cached
+                namespace: company.team
+
+                tasks:
+                  - id: get_task_cached
+                    type: io.kestra.plugin.todoist.GetTask
+                    apiToken: "{{ secret('TODOIST_API_TOKEN') }}"
+                    taskId: "7498765432"
+                    cache: true
+                    cacheTtl: PT5M
+                """
         )
     }
 )
@@ -56,6 +93,37 @@ public class GetTask extends AbstractTodoistTask implements RunnableTask<GetTask
     @PluginProperty(group = "main")
     private Property<String> taskId;
 
+    @Schema(
+        title = "Fields",
+        description = "Dotted paths of the task fields to keep (e.g., `id`, `content`, `due.date`); other fields are dropped while the response is parsed. All fields are kept when empty."
+    )
+    @PluginProperty(group = "processing")
+    private Property<List<String>> fields;
+
+    @Schema(
+        title = "Cache task",
+        description = "Serve repeated reads of the same task from a worker-local cache; `UpdateTask`, `CompleteTask` and `DeleteTask` invalidate the cached task when they run on the same worker. Default false"
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Boolean> cache = Property.ofValue(false);
+
+    @Schema(
+        title = "Cache TTL",
+        description = "How long a cached task is served without asking Todoist; afterwards it is revalidated with `ETag` / `Last-Modified` when Todoist sent them, or fetched again. Default PT1M"
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Duration> cacheTtl = Property.ofValue(Duration.ofMinutes(1));
+
+    @Schema(
+        title = "Cache size",
+        description = "Maximum number of tasks kept in the worker cache, least recently used first out; default 1000"
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Integer> cacheMaxSize = Property.ofValue(1000);
+
     @Override
     public Output run(RunContext runContext) throws Exception {
         Logger logger = runContext.logger();
@@ -63,18 +131,28 @@ public class GetTask extends AbstractTodoistTask implements RunnableTask<GetTask
         String rToken = runContext.render(apiToken).as(String.class).orElseThrow();
         String rTaskId = runContext.render(taskId).as(String.class).orElseThrow();
 
-        HttpRequest request = createRequestBuilder(rToken, BASE_URL + "/tasks/" + rTaskId)
+        FieldProjection projection = FieldProjection.of(runContext.render(fields).asList(String.class));
+
+        if (runContext.render(cache).as(Boolean.class).orElse(false)) {
+            Map<String, Object> task = getCached(runContext, rToken, rTaskId);
+            logger.info("Task {} retrieved successfully", rTaskId);
+
+            return Output.builder()
+                .task(projection != null ? projection.apply(task) : task)
+                .build();
+        }
+
+        HttpRequest request = createRequestBuilder(rToken, baseUrl(runContext) + "/tasks/" + rTaskId)
             .method("GET")
             .build();
 
-        HttpResponse<String> response = sendRequest(runContext, request);
+        TodoistHttpClient.Exchange<Map<String, Object>> exchange = sendStreamingRequest(runContext, request, body -> TaskPageParser.parseTask(body, projection));
 
-        if (response.getStatus().getCode() >= 400) {
-            throw new IllegalArgumentException("Failed to get task: " + response.getStatus().getCode() + " - " + response.getBody());
+        if (exchange.response().getStatus().getCode() >= 400) {
+            throw new IllegalArgumentException("Failed to get task: " + exchange.response().getStatus().getCode() + " - " + exchange.errorBody());
         }
 
-        @SuppressWarnings("unchecked")
-        Map<String, Object> task = JacksonMapper.ofJson().readValue(response.getBody(), Map.class);
+        Map<String, Object> task = exchange.response().getBody();
 
         logger.info("Task {} retrieved successfully", rTaskId);
 
@@ -83,12 +161,64 @@ public class GetTask extends AbstractTodoistTask implements RunnableTask<GetTask
             .build();
     }
 
+    /**
+     * Serves the task from the worker cache while fresh, revalidates it once stale, and fetches it on a miss
+     */
+    private Map<String, Object> getCached(RunContext runContext, String token, String taskId) throws Exception {
+        Duration rTtl = runContext.render(cacheTtl).as(Duration.class).orElse(Duration.ofMinutes(1));
+        int rMaxSize = runContext.render(cacheMaxSize).as(Integer.class).orElse(1000);
+
+        TaskCache.Entry entry = TaskCache.get(token, taskId);
+        if (entry != null && entry.isFresh(rTtl)) {
+            runContext.metric(Counter.of("cache.hits", 1));
+            return entry.task();
+        }
+
+        HttpRequest.HttpRequestBuilder requestBuilder = createRequestBuilder(token, baseUrl(runContext) + "/tasks/" + taskId)
+            .method("GET");
+        if (entry != null && entry.etag() != null) {
+            requestBuilder.addHeader("If-None-Match", entry.etag());
+        }
+        if (entry != null && entry.lastModified() != null) {
+            requestBuilder.addHeader("If-Modified-Since", entry.lastModified());
+        }
+
+        HttpResponse<String> response = sendRequest(runContext, requestBuilder.build());
+
+        if (entry != null && response.getStatus().getCode() == 304) {
+            TaskCache.refresh(token, taskId, entry);
+            runContext.metric(Counter.of("cache.hits", 1, "revalidated", "true"));
+            return entry.task();
+        }
+
+        runContext.metric(Counter.of("cache.misses", 1));
+
+        if (response.getStatus().getCode() >= 400) {
+            TaskCache.invalidate(token, taskId);
+            throw new IllegalArgumentException("Failed to get task: " + response.getStatus().getCode() + " - " + response.getBody());
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> task = JacksonMapper.ofJson().readValue(response.getBody(), Map.class);
+
+        TaskCache.put(
+            token,
+            taskId,
+            task,
+            response.getHeaders().firstValue("ETag").orElse(null),
+            response.getHeaders().firstValue("Last-Modified").orElse(null),
+            rMaxSize
+        );
+
+        return task;
+    }
+
     @Builder
     @Getter
     public static class Output implements io.kestra.core.models.tasks.Output {
         @Schema(
             title = "Task",
-            description = "Complete task object returned by Todoist"
+            description = "Task object returned by Todoist, limited to `fields` when set"
         )
         private final Map<String, Object> task;
     }
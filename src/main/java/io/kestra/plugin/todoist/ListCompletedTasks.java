@@ -0,0 +1,409 @@
+package io.kestra.plugin.todoist;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import io.kestra.core.http.HttpRequest;
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.models.tasks.common.FetchType;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import io.kestra.core.models.annotations.PluginProperty;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "List completed Todoist tasks",
+    description = "Lists completed tasks between `since` and `until` through `/tasks/completed/by_completion_date` or `/tasks/completed/by_due_date`. The range is split into windows within the endpoint's maximum range; windows are paginated concurrently and their tasks are returned, or stored, in chronological window order."
+)
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            title = "Export a year of completed tasks",
+            code = """
+                id: todoist_completed_history
+                namespace: company.team
+
+                tasks:
+                  - id: completed_tasks
+                    type: io.kestra.plugin.todoist.ListCompletedTasks
+                    apiToken: "{{ secret('TODOIST_API_TOKEN') }}"
+                    since: "2025-01-01"
+                    until: "2026-01-01"
+                    parallelism: 6
+                    fetchType: STORE
+                """
+        ),
+        @Example(
+            full = true,
+            title = "Tasks of a project completed yesterday",
+            code = """
+                id: todoist_completed_yesterday
+                namespace: company.team
+
+                tasks:
+                  - id: completed_yesterday
+                    type: io.kestra.plugin.todoist.ListCompletedTasks
+                    apiToken: "{{ secret('TODOIST_API_TOKEN') }}"
+                    since: "{{ now() | dateAdd(-1, 'DAYS') | date('yyyy-MM-dd') }}"
+                    until: "{{ now() | date('yyyy-MM-dd') }}"
+                    projectId: "2203306141"
+                """
+        )
+    }
+)
+public class ListCompletedTasks extends AbstractTodoistTask implements RunnableTask<ListCompletedTasks.Output> {
+    private static final int MAX_PAGE_SIZE = 200;
+
+    @Schema(
+        title = "Since",
+        description = "Start of the range, as an ISO date (`2026-01-01`, midnight UTC) or date-time (`2026-01-01T08:00:00Z`)"
+    )
+    @NotNull
+    @PluginProperty(group = "main")
+    private Property<String> since;
+
+    @Schema(
+        title = "Until",
+        description = "End of the range (exclusive), as an ISO date or date-time; defaults to now"
+    )
+    @PluginProperty(group = "main")
+    private Property<String> until;
+
+    @Schema(
+        title = "Date field",
+        description = "Range the tasks by COMPLETION_DATE (`by_completion_date`) or DUE_DATE (`by_due_date`); default COMPLETION_DATE. Todoist ranges due dates in the user's timezone, so with DUE_DATE a task returned by two neighbouring windows is kept by the first one to return it."
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<DateField> dateField = Property.ofValue(DateField.COMPLETION_DATE);
+
+    @Schema(
+        title = "Window",
+        description = "Length of the windows the range is split into; capped at the endpoint's maximum range (89 days by completion date, 41 days by due date), which is also the default"
+    )
+    @PluginProperty(group = "processing")
+    private Property<Duration> window;
+
+    @Schema(
+        title = "Parallelism",
+        description = "Maximum number of windows paginated at the same time; default 4"
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Integer> parallelism = Property.ofValue(4);
+
+    @Schema(
+        title = "Project ID",
+        description = "Only list tasks completed in this project"
+    )
+    @PluginProperty(group = "processing")
+    private Property<String> projectId;
+
+    @Schema(
+        title = "Filter",
+        description = "Todoist query the completed tasks must match (e.g., `@work`)"
+    )
+    @PluginProperty(group = "processing")
+    private Property<String> filter;
+
+    @Schema(
+        title = "Fields",
+        description = "Dotted paths of the task fields to keep (e.g., `id`, `completed_at`); all fields are kept when empty"
+    )
+    @PluginProperty(group = "processing")
+    private Property<List<String>> fields;
+
+    @Schema(
+        title = "Fetch Type",
+        description = "Output mode: FETCH (all in memory) or STORE (write to internal storage `kestra://`); default FETCH"
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<FetchType> fetchType = Property.ofValue(FetchType.FETCH);
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        Logger logger = runContext.logger();
+
+        String rToken = runContext.render(apiToken).as(String.class).orElseThrow();
+        Instant rSince = parseInstant(runContext.render(since).as(String.class).orElseThrow(), "since");
+        Instant rUntil = runContext.render(until).as(String.class).map(value -> parseInstant(value, "until")).orElse(Instant.now());
+        DateField rDateField = runContext.render(dateField).as(DateField.class).orElse(DateField.COMPLETION_DATE);
+        Duration rWindow = runContext.render(window).as(Duration.class).orElse(rDateField.maxRange);
+        int rParallelism = Math.max(1, runContext.render(parallelism).as(Integer.class).orElse(4));
+        String rProjectId = runContext.render(projectId).as(String.class).orElse(null);
+        String rFilter = runContext.render(filter).as(String.class).orElse(null);
+        List<String> rFields = runContext.render(fields).asList(String.class);
+        FieldProjection projection = FieldProjection.of(rFields);
+        // The field assigning a task to a single window is read even when `fields` leaves it out
+        FieldProjection readProjection = projection != null ? FieldProjection.of(Stream.concat(rFields.stream(), Stream.of(rDateField.field)).toList()) : null;
+        FetchType rFetchType = runContext.render(fetchType).as(FetchType.class).orElse(FetchType.FETCH);
+
+        if (rFetchType == FetchType.FETCH_ONE) {
+            throw new IllegalArgumentException("fetchType FETCH_ONE is not supported by ListCompletedTasks, use FETCH or STORE");
+        }
+        if (!rUntil.isAfter(rSince)) {
+            throw new IllegalArgumentException("'until' (" + rUntil + ") must be after 'since' (" + rSince + ")");
+        }
+        if (rWindow.compareTo(rDateField.maxRange) > 0 || rWindow.toSeconds() < 1) {
+            rWindow = rDateField.maxRange;
+        }
+
+        List<Window> windows = new ArrayList<>();
+        for (Instant start = rSince; start.isBefore(rUntil); start = start.plus(rWindow)) {
+            Instant end = start.plus(rWindow).isBefore(rUntil) ? start.plus(rWindow) : rUntil;
+            windows.add(new Window(windows.size(), start, end));
+        }
+
+        WindowQuery query = new WindowQuery(
+            baseUrl(runContext) + "/tasks/completed/" + rDateField.endpoint,
+            rDateField,
+            rProjectId,
+            rFilter,
+            readProjection,
+            projection,
+            ConcurrentHashMap.newKeySet()
+        );
+        Output.OutputBuilder outputBuilder = Output.builder();
+        long size;
+
+        // Each window is collected on its own and the results are joined in window order, so the output stays
+        // chronological whatever order the windows complete in
+        if (rFetchType == FetchType.STORE) {
+            List<File> files = new ArrayList<>(windows.size());
+            for (int i = 0; i < windows.size(); i++) {
+                files.add(runContext.workingDir().createTempFile(".ion").toFile());
+            }
+
+            size = total(runConcurrently("todoist-completed-tasks", windows, rParallelism, (index, window) -> {
+                try (OutputStream output = new BufferedOutputStream(new FileOutputStream(files.get(index)))) {
+                    return fetchWindow(runContext, rToken, query, window, task -> FileSerde.write(output, task));
+                }
+            }));
+
+            File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
+            joinFiles(files, tempFile);
+            outputBuilder.uri(runContext.storage().putFile(tempFile));
+        } else {
+            List<List<Map<String, Object>>> pages = new ArrayList<>(windows.size());
+            for (int i = 0; i < windows.size(); i++) {
+                pages.add(new ArrayList<>());
+            }
+
+            size = total(runConcurrently("todoist-completed-tasks", windows, rParallelism,
+                (index, window) -> fetchWindow(runContext, rToken, query, window, pages.get(index)::add)
+            ));
+
+            List<Map<String, Object>> rows = new ArrayList<>((int) size);
+            pages.forEach(rows::addAll);
+            outputBuilder.rows(rows);
+        }
+
+        runContext.metric(Counter.of("tasks.emitted", size));
+        logger.info("Retrieved {} completed tasks from {} windows between {} and {}", size, windows.size(), rSince, rUntil);
+
+        return outputBuilder.size(size).build();
+    }
+
+    private static long total(List<Long> counts) {
+        return counts.stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Streams every page of one window into the handler and returns the number of tasks.
+     * <p>
+     * Todoist takes whole-second bounds and includes both of them, so the request is widened to the enclosing seconds
+     * and neighbouring windows can both return a task near their common boundary. By completion date, the absolute
+     * completion time keeps the task only in the window with {@code start <= date < end}. Due dates are ranged by
+     * Todoist in the user's timezone and may have no time, so they cannot be placed against the window bounds: a task
+     * is kept by the first window returning it instead.
+     */
+    private long fetchWindow(RunContext runContext, String token, WindowQuery query, Window window, TaskPageParser.TaskHandler handler) throws Exception {
+        long[] count = {0};
+        String cursor = null;
+
+        do {
+            StringBuilder pageUrl = new StringBuilder(query.url())
+                .append("?since=").append(encode(window.start().truncatedTo(ChronoUnit.SECONDS).toString()))
+                .append("&until=").append(encode(ceilToSeconds(window.end()).toString()))
+                .append("&limit=").append(MAX_PAGE_SIZE);
+            if (query.projectId() != null) {
+                pageUrl.append("&project_id=").append(encode(query.projectId()));
+            }
+            if (query.filter() != null) {
+                pageUrl.append("&filter_query=").append(encode(query.filter()));
+            }
+            if (cursor != null) {
+                pageUrl.append("&cursor=").append(encode(cursor));
+            }
+
+            HttpRequest request = createRequestBuilder(token, pageUrl.toString())
+                .method("GET")
+                .build();
+
+            TodoistHttpClient.Exchange<String> exchange;
+            try {
+                exchange = sendStreamingRequest(runContext, request, body -> TaskPageParser.parse(body, query.readProjection(), task -> {
+                    if (!query.accepts(window, task)) {
+                        return;
+                    }
+                    handler.accept(query.projection() != null ? query.projection().apply(task) : task);
+                    count[0]++;
+                }));
+            } catch (JsonProcessingException e) {
+                throw new Exception("Failed to parse completed tasks response: " + e.getOriginalMessage(), e);
+            }
+
+            if (exchange.response().getStatus().getCode() >= 400) {
+                throw new Exception("Failed to list completed tasks: " + exchange.response().getStatus().getCode() + " - " + exchange.errorBody());
+            }
+
+            runContext.metric(Counter.of("pages", 1));
+            cursor = exchange.response().getBody();
+        } while (cursor != null);
+
+        runContext.logger().debug("Window {} ({} to {}) returned {} completed tasks", window.index(), window.start(), window.end(), count[0]);
+        return count[0];
+    }
+
+    private static Instant parseInstant(String value, String property) {
+        try {
+            return OffsetDateTime.parse(value).toInstant();
+        } catch (DateTimeParseException e) {
+            try {
+                return LocalDate.parse(value).atStartOfDay(ZoneOffset.UTC).toInstant();
+            } catch (DateTimeParseException ignored) {
+                throw new IllegalArgumentException("Invalid '" + property + "' value '" + value + "', expected an ISO date or date-time");
+            }
+        }
+    }
+
+    private static Instant ceilToSeconds(Instant instant) {
+        Instant seconds = instant.truncatedTo(ChronoUnit.SECONDS);
+        return seconds.equals(instant) ? seconds : seconds.plusSeconds(1);
+    }
+
+    /**
+     * Parses a Todoist completion time, or returns null when it is missing or not an offset date-time
+     */
+    private static Instant parseCompletedAt(Object value) {
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return OffsetDateTime.parse(value.toString()).toInstant();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A slice of the `since`/`until` range, fetched independently
+     */
+    private record Window(int index, Instant start, Instant end) {
+        boolean contains(Instant instant) {
+            return !instant.isBefore(start) && instant.isBefore(end);
+        }
+    }
+
+    /**
+     * Request settings shared by every window; {@code readProjection} is {@code projection} plus the field of
+     * {@link DateField} and {@code seen} the task IDs already kept by a window when ranging by due date
+     */
+    private record WindowQuery(String url, DateField dateField, String projectId, String filter, FieldProjection readProjection, FieldProjection projection, Set<String> seen) {
+        /**
+         * Whether the window keeps a task it returned, so that each task is kept by exactly one window
+         */
+        boolean accepts(Window window, Map<String, Object> task) {
+            if (dateField == DateField.COMPLETION_DATE) {
+                Instant completedAt = parseCompletedAt(task.get(dateField.field));
+                return completedAt == null || window.contains(completedAt);
+            }
+
+            Object id = task.get(dateField.field);
+            return id == null || seen.add(id.toString());
+        }
+    }
+
+    public enum DateField {
+        COMPLETION_DATE("by_completion_date", "completed_at", Duration.ofDays(89)),
+        DUE_DATE("by_due_date", "id", Duration.ofDays(41));
+
+        private final String endpoint;
+        /**
+         * Task field deciding which window keeps a task returned by two windows: the completion time, or the task ID
+         */
+        private final String field;
+        private final Duration maxRange;
+
+        DateField(String endpoint, String field, Duration maxRange) {
+            this.endpoint = endpoint;
+            this.field = field;
+            this.maxRange = maxRange;
+        }
+
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "Rows",
+            description = "Completed tasks in window order when fetchType is FETCH"
+        )
+        private final List<Map<String, Object>> rows;
+
+        @Schema(
+            title = "URI",
+            description = "Internal storage URI (`kestra://`) of an Ion file with the completed tasks in window order when fetchType is STORE"
+        )
+        private final URI uri;
+
+        @Schema(
+            title = "Size",
+            description = "Number of completed tasks"
+        )
+        private final Long size;
+    }
+}
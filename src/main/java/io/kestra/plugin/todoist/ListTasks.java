@@ -1,24 +1,29 @@
 package io.kestra.plugin.todoist;
 
 import java.io.File;
+import java.io.IOException;
 import java.net.URI;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.slf4j.Logger;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+
 import io.kestra.core.http.HttpRequest;
-import io.kestra.core.http.HttpResponse;
 import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.executions.metrics.Counter;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.models.tasks.common.FetchType;
 import io.kestra.core.runners.RunContext;
-import io.kestra.core.serializers.FileSerde;
-import io.kestra.core.serializers.JacksonMapper;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
@@ -32,7 +37,7 @@ import io.kestra.core.models.annotations.PluginProperty;
 @NoArgsConstructor
 @Schema(
     title = "List Todoist tasks",
-    description = "Lists active Todoist tasks by project or filter. Defaults to paginating all tasks and returning them in memory; set `fetchType` to STORE to stream to internal storage for large sets."
+    description = "Lists active Todoist tasks by project or filter. Project, section, label, priority, due-range and filter criteria are combined into one Todoist query so only matching tasks are downloaded. Defaults to paginating all tasks and returning them in memory; set `fetchType` to STORE to stream to internal storage for large sets."
 )
 @Plugin(
     examples = {
@@ -108,6 +113,60 @@ import io.kestra.core.models.annotations.PluginProperty;
                     fetchType: FETCH
                 """
         ),
+        @Example(
+            full = true,
+            title = "List tasks of several projects and filters concurrently",
+            code = """
+                id: todoist_list_tasks_fan_out
+                namespace: company.team
+
+                tasks:
+                  - id: list_tasks_fan_out
+                    type: io.kestra.plugin.todoist.ListTasks
+                    apiToken: "{{ secret('TODOIST_API_TOKEN') }}"
+                    projectIds:
+                      - "2203306141"
+                      - "2203306142"
+                    filters:
+                      - "overdue"
+                    parallelism: 8
+                    fetchType: STORE
+                """
+        ),
+        @Example(
+            full = true,
+            title = "Keep only the fields used downstream",
+            code = """
+                id: todoist_list_task_fields
+                namespace: company.team
+
+                tasks:
+                  - id: list_task_fields
+                    type: io.kestra.plugin.todoist.ListTasks
+                    apiToken: "{{ secret('TODOIST_API_TOKEN') }}"
+                    fields:
+                      - id
+                      - content
+                      - due.date
+                """
+        ),
+        @Example(
+            full = true,
+            title = "List urgent tasks of a project due within a week",
+            code = """
+                id: todoist_list_urgent_tasks
+                namespace: company.team
+
+                tasks:
+                  - id: list_urgent_tasks
+                    type: io.kestra.plugin.todoist.ListTasks
+                    apiToken: "{{ secret('TODOIST_API_TOKEN') }}"
+                    projectId: "2203306141"
+                    priority: 1
+                    dueBefore: "+7 days"
+                    filter: "!assigned to: others"
+                """
+        ),
         @Example(
             full = true,
             title = "Fetch only the first matching task",
@@ -122,110 +181,293 @@ import io.kestra.core.models.annotations.PluginProperty;
                     filter: "today"
                     fetchType: FETCH_ONE
                 """
+        ),
+        @Example(
+            full = true,
+            title = "Store at most 500 overdue tasks",
+            code = """
+                id: todoist_list_capped_tasks
+                namespace: company.team
+
+                tasks:
+                  - id: list_capped_tasks
+                    type: io.kestra.plugin.todoist.ListTasks
+                    apiToken: "{{ secret('TODOIST_API_TOKEN') }}"
+                    filter: "overdue"
+                    limit: 200
+                    maxRows: 500
+                    fetchType: STORE
+                """
         )
     }
 )
 public class ListTasks extends AbstractTodoistTask implements RunnableTask<ListTasks.Output> {
+    private static final int MAX_PAGE_SIZE = 200;
 
     @Schema(
         title = "Project ID",
-        description = "Filter tasks by project ID; cannot be combined with filter"
+        description = "Filter tasks by project ID; combined with the other criteria into a single Todoist query"
     )
     @PluginProperty(group = "connection")
     private Property<String> projectId;
 
+    @Schema(
+        title = "Project name",
+        description = "Filter tasks by project name instead of ID; resolved through the worker's cached name lookup (see `nameCacheTtl`)"
+    )
+    @PluginProperty(group = "connection")
+    private Property<String> projectName;
+
     @Schema(
         title = "Filter",
-        description = "Custom Todoist query (e.g., \"today\", \"overdue\", \"priority 1\"); mutually exclusive with projectId"
+        description = "Custom Todoist query (e.g., \"today\", \"overdue\", \"priority 1\"); ANDed with the other criteria when they are set"
     )
     @PluginProperty(group = "processing")
     private Property<String> filter;
 
+    @Schema(
+        title = "Section ID",
+        description = "Only list tasks of this section"
+    )
+    @PluginProperty(group = "processing")
+    private Property<String> sectionId;
+
+    @Schema(
+        title = "Section name",
+        description = "Only list tasks of the section with this name, looked up within the project when one is set"
+    )
+    @PluginProperty(group = "processing")
+    private Property<String> sectionName;
+
+    @Schema(
+        title = "Labels",
+        description = "Only list tasks carrying all of these labels; applies to every source"
+    )
+    @PluginProperty(group = "processing")
+    private Property<List<String>> labels;
+
+    @Schema(
+        title = "Priority",
+        description = "Only list tasks of this priority, 1 (highest) to 4 (lowest); applies to every source"
+    )
+    @PluginProperty(group = "processing")
+    private Property<Integer> priority;
+
+    @Schema(
+        title = "Due after",
+        description = "Only list tasks due after this Todoist date (e.g., `today`, `2026-01-31`, `-3 days`); applies to every source"
+    )
+    @PluginProperty(group = "processing")
+    private Property<String> dueAfter;
+
+    @Schema(
+        title = "Due before",
+        description = "Only list tasks due before this Todoist date (e.g., `+7 days`, `next monday`); applies to every source"
+    )
+    @PluginProperty(group = "processing")
+    private Property<String> dueBefore;
+
     @Schema(
         title = "Limit",
-        description = "Maximum tasks per page. When null, the task auto-paginates all results; when set, only one page is fetched (Todoist defaults to 50). Supported on /tasks and /tasks/filter."
+        description = "Maximum tasks per page. When null, the task auto-paginates all results; when set without `maxRows`, only one page is fetched (Todoist defaults to 50). Supported on /tasks and /tasks/filter."
     )
     @PluginProperty(group = "processing")
     private Property<Integer> limit;
 
+    @Schema(
+        title = "Maximum rows",
+        description = "Stop paginating once this many tasks have been collected, in every fetch mode. Pages keep their `limit` size, so `limit` and `maxRows` can be combined to page through a bounded result set."
+    )
+    @PluginProperty(group = "processing")
+    private Property<Integer> maxRows;
+
     @Schema(
         title = "Fetch Type",
-        description = "Output mode: FETCH_ONE (first task), FETCH (all in memory), STORE (write stream to internal storage `kestra://`); default FETCH"
+        description = "Output mode: FETCH_ONE (first task, fetched with a one-task page), FETCH (all in memory), STORE (write stream to internal storage `kestra://`); default FETCH"
     )
     @Builder.Default
     @PluginProperty(group = "processing")
     private Property<FetchType> fetchType = Property.ofValue(FetchType.FETCH);
 
+    @Schema(
+        title = "Store format",
+        description = "File format written when fetchType is STORE: ION, JSONL (one JSON object per line) or CSV. CSV columns are the `fields` when set, otherwise a flattened set of the common task fields (`due.date`, `due.string`, ...); lists are joined with commas. Default ION"
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<StoreFormat> storeFormat = Property.ofValue(StoreFormat.ION);
+
+    @Schema(
+        title = "Store codec",
+        description = "Compression applied while the STORE file is written: NONE, GZIP or ZSTD; default NONE"
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<StoreCodec> storeCodec = Property.ofValue(StoreCodec.NONE);
+
+    @Schema(
+        title = "Project IDs",
+        description = "List the tasks of several projects concurrently. Results are merged, tagged with their `source`, and deduplicated by task ID."
+    )
+    @PluginProperty(group = "connection")
+    private Property<List<String>> projectIds;
+
+    @Schema(
+        title = "Filters",
+        description = "Run several Todoist queries concurrently. Results are merged, tagged with their `source`, and deduplicated by task ID."
+    )
+    @PluginProperty(group = "processing")
+    private Property<List<String>> filters;
+
+    @Schema(
+        title = "Parallelism",
+        description = "Maximum number of projects or filters paginated at the same time; default 4"
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Integer> parallelism = Property.ofValue(4);
+
+    @Schema(
+        title = "Fields",
+        description = "Dotted paths of the task fields to keep (e.g., `id`, `content`, `due.date`). Other fields are dropped while the response is parsed, before they reach `rows` or the stored file. All fields are kept when empty; `id` is always kept when `projectIds` or `filters` are used."
+    )
+    @PluginProperty(group = "processing")
+    private Property<List<String>> fields;
+
+    @Schema(
+        title = "Name cache TTL",
+        description = "How long the project and section names of this API token are reused by the worker before `/projects` and `/sections` are read again; an unknown name triggers a reload. Default PT15M"
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Duration> nameCacheTtl = Property.ofValue(DEFAULT_NAME_CACHE_TTL);
+
+    @Schema(
+        title = "Persist name cache",
+        description = "Also keep the project and section names in the namespace KV store for `nameCacheTtl`, so other workers reuse them; default false"
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Boolean> persistNameCache = Property.ofValue(false);
+
     @Override
     public Output run(RunContext runContext) throws Exception {
         Logger logger = runContext.logger();
 
         String rToken = runContext.render(apiToken).as(String.class).orElseThrow();
 
+        // Names are only looked up when a name property or a filter query needs them
+        NameCache.Resolver names = nameResolver(runContext, rToken, nameCacheTtl, persistNameCache);
+
         String rFilter = runContext.render(filter).as(String.class).orElse(null);
-        String rProjectId = runContext.render(projectId).as(String.class).orElse(null);
+        String rProjectId = resolveId(runContext.render(projectId).as(String.class).orElse(null), runContext.render(projectName).as(String.class).orElse(null), "project", names::projectId);
         Integer rLimit = runContext.render(limit).as(Integer.class).orElse(null);
-
-        // Validate that filter and projectId are not both provided
-        if (rFilter != null && rProjectId != null) {
-            throw new IllegalArgumentException("Cannot use both 'filter' and 'projectId' parameters together. Please use only one.");
+        Integer rMaxRows = runContext.render(maxRows).as(Integer.class).orElse(null);
+        List<String> rProjectIds = runContext.render(projectIds).asList(String.class);
+        List<String> rFilters = runContext.render(filters).asList(String.class);
+        int rParallelism = Math.max(1, runContext.render(parallelism).as(Integer.class).orElse(4));
+
+        String rSectionId = resolveId(runContext.render(sectionId).as(String.class).orElse(null), runContext.render(sectionName).as(String.class).orElse(null), "section", name -> names.sectionId(name, rProjectId));
+        List<String> rLabels = runContext.render(labels).asList(String.class);
+        Integer rPriority = runContext.render(priority).as(Integer.class).orElse(null);
+        String rDueAfter = runContext.render(dueAfter).as(String.class).orElse(null);
+        String rDueBefore = runContext.render(dueBefore).as(String.class).orElse(null);
+
+        // Every criterion is pushed down into one Todoist query per source, so filtering happens on the server
+        List<Source> sources = new ArrayList<>();
+        if (rProjectId != null || rFilter != null || rSectionId != null || (rProjectIds.isEmpty() && rFilters.isEmpty())) {
+            TaskQuery query = TaskQuery.plan(rProjectId, rSectionId, rLabels, rPriority, rDueAfter, rDueBefore, rFilter, names);
+            String label = rFilter != null ? "filter:" + rFilter : (rProjectId != null ? "project:" + rProjectId : "all");
+            sources.add(new Source(label, query));
         }
+        for (String id : rProjectIds) {
+            sources.add(new Source("project:" + id, TaskQuery.plan(id, null, rLabels, rPriority, rDueAfter, rDueBefore, null, names)));
+        }
+        for (String query : rFilters) {
+            sources.add(new Source("filter:" + query, TaskQuery.plan(null, null, rLabels, rPriority, rDueAfter, rDueBefore, query, names)));
+        }
+        sources.stream()
+            .filter(source -> source.query().query() != null)
+            .forEach(source -> logger.debug("Listing {} with query '{}'", source.label(), source.query().query()));
+
+        boolean fanOut = !rProjectIds.isEmpty() || !rFilters.isEmpty();
+        // A task matching several projects or filters is emitted once, tagged with the first source that returned it
+        Set<String> seenIds = fanOut ? ConcurrentHashMap.newKeySet() : null;
+
+        List<String> rFields = new ArrayList<>(runContext.render(fields).asList(String.class));
+        if (fanOut && !rFields.isEmpty() && !rFields.contains("id")) {
+            // Merged sources are deduplicated on the task id
+            rFields.add("id");
+        }
+        FieldProjection projection = FieldProjection.of(rFields);
 
-        // Accumulate all tasks from all pages
-        List<Map<String, Object>> allTasks = new java.util.ArrayList<>();
-        String cursor = null;
-        boolean fetchAll = (rLimit == null); // If limit is not set, fetch all pages
-
-        do {
-            String url = buildUrl(rFilter, rProjectId, rLimit, cursor);
-
-            HttpRequest request = createRequestBuilder(rToken, url)
-                .method("GET")
-                .build();
-
-            HttpResponse<String> response = sendRequest(runContext, request);
-
-            if (response.getStatus().getCode() >= 400) {
-                throw new Exception("Failed to list tasks: " + response.getStatus().getCode() + " - " + response.getBody());
-            }
+        FetchType renderedFetchType = runContext.render(fetchType).as(FetchType.class).orElse(FetchType.FETCH);
 
-            // Parse response to get tasks and next cursor
-            String responseBody = response.getBody();
-            Map<String, Object> responseMap;
-            try {
-                responseMap = JacksonMapper.ofJson().readValue(responseBody, Map.class);
-            } catch (Exception e) {
-                logger.error("Failed to parse response: {}", responseBody, e);
-                throw new Exception("Failed to parse tasks response: " + e.getMessage() + ". Response: " + responseBody, e);
-            }
+        // FETCH_ONE needs a single row, so it asks for the smallest page and stops at the first task
+        long rowCap = renderedFetchType == FetchType.FETCH_ONE ? 1 : (rMaxRows != null ? Math.max(0, rMaxRows) : Long.MAX_VALUE);
+        boolean singlePage = rLimit != null && rMaxRows == null && renderedFetchType != FetchType.FETCH_ONE;
+        Integer pageSize;
+        if (renderedFetchType == FetchType.FETCH_ONE) {
+            pageSize = 1;
+        } else if (rLimit != null) {
+            pageSize = rLimit;
+        } else {
+            // A small maxRows is served by one page of exactly that size
+            pageSize = rowCap < MAX_PAGE_SIZE ? (int) Math.max(1, rowCap) : null;
+        }
+        Pagination pagination = new Pagination(pageSize, singlePage);
 
-            // Extract tasks from response
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> pageTasks = extractTasksFromResponse(responseMap, responseBody, logger);
+        StoreFormat rStoreFormat = runContext.render(storeFormat).as(StoreFormat.class).orElse(StoreFormat.ION);
+        StoreCodec rStoreCodec = runContext.render(storeCodec).as(StoreCodec.class).orElse(StoreCodec.NONE);
+        List<String> csvColumns = new ArrayList<>(rFields.isEmpty() ? TaskStore.DEFAULT_CSV_COLUMNS : rFields);
+        if (fanOut) {
+            csvColumns.add("source");
+        }
 
-            if (pageTasks != null) {
-                allTasks.addAll(pageTasks);
-            }
+        // In STORE mode each task is encoded and compressed as soon as it is parsed, so pages are never held in memory
+        File tempFile = renderedFetchType == FetchType.STORE ? runContext.workingDir().createTempFile(TaskStore.extension(rStoreFormat, rStoreCodec)).toFile() : null;
+        List<Map<String, Object>> allTasks = new ArrayList<>();
+        AtomicLong size = new AtomicLong();
 
-            // Get next cursor for pagination
-            Object nextCursorObj = responseMap.get("next_cursor");
-            cursor = (nextCursorObj != null && !nextCursorObj.toString().isEmpty()) ? nextCursorObj.toString() : null;
+        try (TaskStore.TaskWriter storeOutput = tempFile != null ? TaskStore.open(tempFile, rStoreFormat, rStoreCodec, csvColumns) : null) {
+            TaskConsumer consumer = (source, task) -> {
+                if (seenIds != null) {
+                    if (size.get() >= rowCap || !seenIds.add(String.valueOf(task.get("id")))) {
+                        return size.get() < rowCap;
+                    }
+                    task.put("source", source.label());
+                }
 
-            // If limit is set, only fetch one page
-            if (!fetchAll) {
-                break;
-            }
+                synchronized (allTasks) {
+                    if (size.get() >= rowCap) {
+                        return false;
+                    }
+                    if (storeOutput != null) {
+                        storeOutput.write(task);
+                    } else {
+                        allTasks.add(task);
+                    }
+                    return size.incrementAndGet() < rowCap;
+                }
+            };
 
-            // Log progress if fetching all pages
-            if (cursor != null) {
-                logger.debug("Fetched {} tasks so far, continuing pagination...", allTasks.size());
+            if (rowCap > 0) {
+                if (sources.size() == 1) {
+                    paginate(runContext, rToken, sources.getFirst(), pagination, projection, consumer);
+                } else {
+                    paginateConcurrently(runContext, rToken, sources, pagination, projection, rParallelism, consumer);
+                }
             }
+        }
 
-        } while (cursor != null);
-
-        logger.info("Retrieved {} tasks{}", allTasks.size(), fetchAll ? " (all pages)" : "");
+        runContext.metric(Counter.of("tasks.emitted", size.get()));
+        logger.info(
+            "Retrieved {} tasks{}{}",
+            size.get(),
+            size.get() >= rowCap ? " (row cap reached)" : (singlePage ? "" : " (all pages)"),
+            fanOut ? " from " + sources.size() + " sources" : ""
+        );
 
-        FetchType renderedFetchType = runContext.render(fetchType).as(FetchType.class).orElse(FetchType.FETCH);
         Output.OutputBuilder outputBuilder = Output.builder();
 
         switch (renderedFetchType) {
@@ -237,17 +479,11 @@ public class ListTasks extends AbstractTodoistTask implements RunnableTask<ListT
                 }
             }
             case STORE -> {
-                File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
-                try (var fileOutputStream = new java.io.FileOutputStream(tempFile)) {
-                    for (Map<String, Object> task : allTasks) {
-                        FileSerde.write(fileOutputStream, task);
-                    }
-                }
                 URI uri = runContext.storage().putFile(tempFile);
-                outputBuilder.uri(uri).size((long) allTasks.size());
+                outputBuilder.uri(uri).size(size.get());
             }
             case FETCH -> {
-                outputBuilder.rows(allTasks).size((long) allTasks.size());
+                outputBuilder.rows(allTasks).size(size.get());
             }
         }
 
@@ -255,76 +491,119 @@ public class ListTasks extends AbstractTodoistTask implements RunnableTask<ListT
     }
 
     /**
-     * Builds the URL for the API request with appropriate query parameters
+     * Paginates each source on its own virtual thread, at most {@code parallelism} at a time
      */
-    private String buildUrl(String filter, String projectId, Integer limit, String cursor) {
-        StringBuilder urlBuilder;
-
-        if (filter != null) {
-            // Use the filter endpoint: /api/v1/tasks/filter
-            // API v1 uses 'query' parameter, not 'filter'
-            urlBuilder = new StringBuilder(BASE_URL + "/tasks/filter?query=" + URLEncoder.encode(filter, StandardCharsets.UTF_8));
-            if (limit != null) {
-                urlBuilder.append("&limit=").append(limit);
-            }
-            if (cursor != null) {
-                urlBuilder.append("&cursor=").append(URLEncoder.encode(cursor, StandardCharsets.UTF_8));
+    private void paginateConcurrently(RunContext runContext, String token, List<Source> sources, Pagination pagination, FieldProjection projection, int parallelism, TaskConsumer consumer) throws Exception {
+        runConcurrently("todoist-list-tasks", sources, parallelism, (index, source) -> {
+            paginate(runContext, token, source, pagination, projection, consumer);
+            return null;
+        });
+    }
+
+    /**
+     * Fetches the pages of one source, streaming each task to the consumer as it is parsed, until the last page,
+     * the first page in single-page mode, or the consumer asks to stop
+     */
+    private void paginate(RunContext runContext, String token, Source source, Pagination pagination, FieldProjection projection, TaskConsumer consumer) throws Exception {
+        Logger logger = runContext.logger();
+        String cursor = null;
+        AtomicLong fetched = new AtomicLong();
+        AtomicBoolean more = new AtomicBoolean(true);
+
+        do {
+            String url = source.query().buildUrl(baseUrl(runContext), pagination.pageSize(), cursor);
+
+            HttpRequest request = createRequestBuilder(token, url)
+                .method("GET")
+                .build();
+
+            TodoistHttpClient.Exchange<String> exchange;
+            try {
+                // The body is parsed once while it is read: tasks are emitted one by one and the next cursor is returned
+                exchange = sendStreamingRequest(runContext, request, body -> TaskPageParser.parse(body, projection, task -> {
+                    // The rest of the page is still read so the connection can be reused, but no longer emitted
+                    if (more.get()) {
+                        more.set(consumer.accept(source, task));
+                        fetched.incrementAndGet();
+                    }
+                }));
+            } catch (JsonProcessingException e) {
+                logger.error("Failed to parse tasks response from {}", source.label(), e);
+                throw new Exception("Failed to parse tasks response: " + e.getOriginalMessage(), e);
             }
-        } else {
-            // Use the standard tasks endpoint: /api/v1/tasks
-            urlBuilder = new StringBuilder(BASE_URL + "/tasks");
-            boolean hasParams = false;
-            if (projectId != null) {
-                urlBuilder.append("?project_id=").append(projectId);
-                hasParams = true;
+
+            if (exchange.response().getStatus().getCode() >= 400) {
+                throw new Exception("Failed to list tasks: " + exchange.response().getStatus().getCode() + " - " + exchange.errorBody());
             }
-            if (limit != null) {
-                urlBuilder.append(hasParams ? "&" : "?").append("limit=").append(limit);
-                hasParams = true;
+
+            runContext.metric(Counter.of("pages", 1));
+
+            // Get next cursor for pagination
+            cursor = exchange.response().getBody();
+
+            // If limit is set without maxRows, only fetch one page
+            if (pagination.singlePage() || !more.get()) {
+                break;
             }
+
+            // Log progress if fetching all pages
             if (cursor != null) {
-                urlBuilder.append(hasParams ? "&" : "?").append("cursor=").append(URLEncoder.encode(cursor, StandardCharsets.UTF_8));
+                logger.debug("Fetched {} tasks so far from {}, continuing pagination...", fetched.get(), source.label());
             }
-        }
 
-        return urlBuilder.toString();
+        } while (cursor != null);
     }
 
     /**
-     * Extracts tasks from the API response, handling different response formats
+     * Page size sent to Todoist (null for the API default) and whether pagination stops after the first page
      */
-    @SuppressWarnings("unchecked")
-    private List<Map<String, Object>> extractTasksFromResponse(Map<String, Object> responseMap, String responseBody, Logger logger) throws Exception {
-        List<Map<String, Object>> tasks;
-
-        try {
-            if (responseMap.containsKey("results") && responseMap.get("results") instanceof List) {
-                // Paginated response with 'results' array (API v1 standard)
-                tasks = (List<Map<String, Object>>) responseMap.get("results");
-            } else if (responseMap.containsKey("items") && responseMap.get("items") instanceof List) {
-                // Fallback for 'items' array
-                tasks = (List<Map<String, Object>>) responseMap.get("items");
-            } else if (responseMap.containsKey("data") && responseMap.get("data") instanceof List) {
-                // Fallback for 'data' array
-                tasks = (List<Map<String, Object>>) responseMap.get("data");
-            } else {
-                // If it's an object but no results/items/data, try as direct array
-                tasks = JacksonMapper.ofJson().readValue(responseBody, List.class);
-            }
-        } catch (com.fasterxml.jackson.databind.exc.MismatchedInputException e) {
-            // If parsing as object fails (not an object), try as direct array
-            try {
-                tasks = JacksonMapper.ofJson().readValue(responseBody, List.class);
-            } catch (Exception e2) {
-                logger.error("Failed to parse response as object or array. Response: {}", responseBody);
-                throw new Exception("Failed to parse tasks response: " + e2.getMessage() + ". Response: " + responseBody, e2);
-            }
-        } catch (Exception e) {
-            logger.error("Unexpected error parsing response: {}", responseBody, e);
-            throw new Exception("Failed to parse tasks response: " + e.getMessage() + ". Response: " + responseBody, e);
+    private record Pagination(Integer pageSize, boolean singlePage) {
+    }
+
+    /**
+     * A planned query to paginate, with the label merged rows are tagged with
+     */
+    private record Source(String label, TaskQuery query) {
+    }
+
+    @FunctionalInterface
+    private interface TaskConsumer {
+        /**
+         * Emits the task and returns false once no more tasks are wanted
+         */
+        boolean accept(Source source, Map<String, Object> task) throws IOException;
+    }
+
+    public enum StoreFormat {
+        ION(".ion"),
+        JSONL(".jsonl"),
+        CSV(".csv");
+
+        private final String extension;
+
+        StoreFormat(String extension) {
+            this.extension = extension;
+        }
+
+        String extension() {
+            return extension;
         }
+    }
+
+    public enum StoreCodec {
+        NONE(""),
+        GZIP(".gz"),
+        ZSTD(".zst");
+
+        private final String extension;
 
-        return tasks != null ? tasks : new java.util.ArrayList<>();
+        StoreCodec(String extension) {
+            this.extension = extension;
+        }
+
+        String extension() {
+            return extension;
+        }
     }
 
     @Builder
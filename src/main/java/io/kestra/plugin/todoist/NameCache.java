@@ -0,0 +1,239 @@
+package io.kestra.plugin.todoist;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.storages.kv.KVMetadata;
+import io.kestra.core.storages.kv.KVStore;
+import io.kestra.core.storages.kv.KVValue;
+import io.kestra.core.storages.kv.KVValueAndMetadata;
+
+/**
+ * Worker-local cache of the project and section names of each API token and base URL, loaded from `/projects` and
+ * `/sections`.
+ * <p>
+ * A directory is reused for its TTL, and can also be kept in the namespace KV store so other workers and restarted
+ * workers skip the lookup calls. A name or ID missing from a cached directory triggers one reload per run, since it
+ * may have been created after the directory was loaded.
+ */
+final class NameCache {
+    private static final Map<String, Directory> DIRECTORIES = new ConcurrentHashMap<>();
+    private static final Map<String, Object> LOCKS = new ConcurrentHashMap<>();
+
+    private NameCache() {
+    }
+
+    /**
+     * Reads every page of a Todoist collection, `projects` or `sections`.
+     */
+    @FunctionalInterface
+    interface Loader {
+        List<Map<String, Object>> list(String resource) throws Exception;
+    }
+
+    record Section(String name, String projectId) {
+    }
+
+    /**
+     * Project names and sections by ID, as loaded at {@code loadedAt}.
+     */
+    record Directory(Map<String, String> projects, Map<String, Section> sections, Instant loadedAt) {
+        boolean isFresh(Duration ttl) {
+            return loadedAt.plus(ttl).isAfter(Instant.now());
+        }
+    }
+
+    /**
+     * Name lookups of one run; the directory is loaded on the first lookup. Directories are keyed by the token and the
+     * base URL, without its trailing slash, so one token used against several servers keeps one directory per server.
+     */
+    static Resolver resolver(RunContext runContext, String token, String baseUrl, Duration ttl, boolean persist, Loader loader) {
+        return new Resolver(runContext, TodoistHttpClient.hash(token + ":" + baseUrl), ttl, persist, loader);
+    }
+
+    static final class Resolver implements TaskQuery.NameResolver {
+        private final RunContext runContext;
+        private final String key;
+        private final Duration ttl;
+        private final boolean persist;
+        private final Loader loader;
+        private Directory directory;
+        private boolean reloaded;
+
+        private Resolver(RunContext runContext, String key, Duration ttl, boolean persist, Loader loader) {
+            this.runContext = runContext;
+            this.key = key;
+            this.ttl = ttl;
+            this.persist = persist;
+            this.loader = loader;
+        }
+
+        /**
+         * ID of the project with this exact name.
+         */
+        String projectId(String name) throws Exception {
+            String id = find(directory -> {
+                List<String> ids = directory.projects().entrySet().stream()
+                    .filter(project -> project.getValue().equals(name))
+                    .map(Map.Entry::getKey)
+                    .toList();
+                return unique(ids, "project", name);
+            });
+            if (id == null) {
+                throw new IllegalArgumentException("No Todoist project named '" + name + "'");
+            }
+            return id;
+        }
+
+        /**
+         * ID of the section with this exact name, within the project when one is given.
+         */
+        String sectionId(String name, String projectId) throws Exception {
+            String id = find(directory -> {
+                List<String> ids = directory.sections().entrySet().stream()
+                    .filter(section -> section.getValue().name().equals(name))
+                    .filter(section -> projectId == null || projectId.equals(section.getValue().projectId()))
+                    .map(Map.Entry::getKey)
+                    .toList();
+                return unique(ids, "section", name);
+            });
+            if (id == null) {
+                throw new IllegalArgumentException("No Todoist section named '" + name + "'" + (projectId != null ? " in project " + projectId : ""));
+            }
+            return id;
+        }
+
+        @Override
+        public String projectName(String projectId) throws Exception {
+            String name = find(directory -> directory.projects().get(projectId));
+            if (name == null) {
+                throw new IllegalArgumentException("Unknown Todoist project " + projectId);
+            }
+            return name;
+        }
+
+        @Override
+        public String sectionName(String sectionId) throws Exception {
+            String name = find(directory -> Optional.ofNullable(directory.sections().get(sectionId)).map(Section::name).orElse(null));
+            if (name == null) {
+                throw new IllegalArgumentException("Unknown Todoist section " + sectionId);
+            }
+            return name;
+        }
+
+        private synchronized String find(Lookup lookup) throws Exception {
+            if (directory == null) {
+                directory = directory(runContext, key, ttl, persist, loader, false);
+            }
+
+            String found = lookup.apply(directory);
+            if (found == null && !reloaded) {
+                reloaded = true;
+                directory = directory(runContext, key, ttl, persist, loader, true);
+                found = lookup.apply(directory);
+            }
+            return found;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Lookup {
+        String apply(Directory directory);
+    }
+
+    private static String unique(List<String> ids, String resource, String name) {
+        if (ids.size() > 1) {
+            throw new IllegalArgumentException("Several Todoist " + resource + "s are named '" + name + "' (" + String.join(", ", ids) + "), use the ID instead");
+        }
+        return ids.isEmpty() ? null : ids.getFirst();
+    }
+
+    /**
+     * Returns a fresh directory from the worker cache, then the KV store, and loads it from Todoist otherwise.
+     * Concurrent runs with the same token and base URL wait for a single load.
+     */
+    private static Directory directory(RunContext runContext, String key, Duration ttl, boolean persist, Loader loader, boolean reload) throws Exception {
+        synchronized (LOCKS.computeIfAbsent(key, k -> new Object())) {
+            Directory cached = DIRECTORIES.get(key);
+            if (!reload && cached != null && cached.isFresh(ttl)) {
+                return cached;
+            }
+
+            if (!reload && persist) {
+                Directory stored = loadState(runContext, key);
+                if (stored != null && stored.isFresh(ttl)) {
+                    DIRECTORIES.put(key, stored);
+                    return stored;
+                }
+            }
+
+            Map<String, String> projects = new LinkedHashMap<>();
+            for (Map<String, Object> project : loader.list("projects")) {
+                projects.put(String.valueOf(project.get("id")), String.valueOf(project.get("name")));
+            }
+            Map<String, Section> sections = new LinkedHashMap<>();
+            for (Map<String, Object> section : loader.list("sections")) {
+                sections.put(String.valueOf(section.get("id")), new Section(String.valueOf(section.get("name")), Objects.toString(section.get("project_id"), null)));
+            }
+
+            Directory directory = new Directory(projects, sections, Instant.now());
+            DIRECTORIES.put(key, directory);
+            if (persist) {
+                saveState(runContext, key, directory, ttl);
+            }
+
+            runContext.logger().debug("Loaded {} Todoist projects and {} sections", projects.size(), sections.size());
+            return directory;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Directory loadState(RunContext runContext, String key) throws Exception {
+        KVStore kvStore = runContext.namespaceKv(runContext.flowInfo().namespace());
+        Optional<KVValue> value = kvStore.getValue(kvKey(key));
+
+        if (value.isEmpty() || !(value.get().value() instanceof Map<?, ?> stored) || stored.get("loadedAt") == null) {
+            return null;
+        }
+
+        Map<String, String> projects = new LinkedHashMap<>((Map<String, String>) stored.get("projects"));
+        Map<String, Section> sections = new LinkedHashMap<>();
+        ((Map<String, Map<String, String>>) stored.get("sections")).forEach((id, section) ->
+            sections.put(id, new Section(section.get("name"), section.get("projectId")))
+        );
+
+        return new Directory(projects, sections, Instant.parse(stored.get("loadedAt").toString()));
+    }
+
+    private static void saveState(RunContext runContext, String key, Directory directory, Duration ttl) throws Exception {
+        Map<String, Map<String, String>> sections = new LinkedHashMap<>();
+        directory.sections().forEach((id, section) -> {
+            Map<String, String> stored = new LinkedHashMap<>();
+            stored.put("name", section.name());
+            stored.put("projectId", section.projectId());
+            sections.put(id, stored);
+        });
+
+        Map<String, Object> stored = new LinkedHashMap<>();
+        stored.put("loadedAt", directory.loadedAt().toString());
+        stored.put("projects", directory.projects());
+        stored.put("sections", sections);
+
+        KVStore kvStore = runContext.namespaceKv(runContext.flowInfo().namespace());
+        kvStore.put(kvKey(key), new KVValueAndMetadata(new KVMetadata("Todoist project and section names", ttl), stored));
+    }
+
+    /**
+     * The hash of the token and base URL keeps the key within the characters allowed in KV keys without exposing the token.
+     */
+    private static String kvKey(String key) {
+        return "todoist_names_" + key;
+    }
+}
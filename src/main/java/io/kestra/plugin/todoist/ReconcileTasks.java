@@ -0,0 +1,498 @@
+package io.kestra.plugin.todoist;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import io.kestra.core.http.HttpRequest;
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Data;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.serializers.JacksonMapper;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import io.kestra.core.models.annotations.PluginProperty;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Reconcile a Todoist project with a desired task list",
+    description = "Compares desired task rows with the active tasks of a project, matched on `keyField`, and applies only the differences through `/sync`: missing tasks are added, tasks whose fields differ are updated, and tasks absent from the desired state are closed. Fields are compared through per-task content hashes, and a field left out of a row is left as it is in Todoist. Set `dryRun` to report the plan without changing anything."
+)
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            title = "Keep the operations checklist in sync with a file",
+            code = """
+                id: todoist_reconcile_checklist
+                namespace: company.team
+
+                inputs:
+                  - id: checklist
+                    type: FILE
+
+                tasks:
+                  - id: reconcile
+                    type: io.kestra.plugin.todoist.ReconcileTasks
+                    apiToken: "{{ secret('TODOIST_API_TOKEN') }}"
+                    projectId: "2203306141"
+                    from: "{{ inputs.checklist }}"
+                """
+        ),
+        @Example(
+            full = true,
+            title = "Preview the changes for an inline list",
+            code = """
+                id: todoist_reconcile_dry_run
+                namespace: company.team
+
+                tasks:
+                  - id: reconcile
+                    type: io.kestra.plugin.todoist.ReconcileTasks
+                    apiToken: "{{ secret('TODOIST_API_TOKEN') }}"
+                    projectId: "2203306141"
+                    dryRun: true
+                    from:
+                      - content: "Rotate on-call schedule"
+                        dueString: "every monday"
+                        priority: 3
+                      - content: "Check backup reports"
+                        labels:
+                          - ops
+                """
+        )
+    }
+)
+public class ReconcileTasks extends AbstractTodoistTask implements RunnableTask<ReconcileTasks.Output> {
+    private static final int MAX_PAGE_SIZE = 200;
+
+    /**
+     * Row fields that can be reconciled, mapped to the Todoist task field they are compared with
+     */
+    private static final Map<String, String> FIELDS = Map.of(
+        "content", "content",
+        "taskDescription", "description",
+        "priority", "priority",
+        "labels", "labels",
+        "dueString", "due.string"
+    );
+
+    @Schema(
+        title = "Project ID",
+        description = "Project whose active tasks are reconciled; tasks are added to this project"
+    )
+    @NotNull
+    @PluginProperty(group = "main")
+    private Property<String> projectId;
+
+    @Schema(
+        title = Data.From.TITLE,
+        description = "Desired tasks, as an internal storage URI (`kestra://`) of an Ion file or an inline list. Rows use the fields of `CreateTask`: `content`, `taskDescription`, `priority`, `labels` (a list) and `dueString`.",
+        anyOf = {String.class, List.class}
+    )
+    @NotNull
+    @PluginProperty(dynamic = true, internalStorageURI = true, group = "main")
+    private Object from;
+
+    @Schema(
+        title = "Key field",
+        description = "Row field identifying a task in both the desired state and Todoist: `content`, `taskDescription`, `priority`, `labels` or `dueString`. Keys must be unique in the desired state; project tasks without a key are left unchanged. Default `content`"
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<String> keyField = Property.ofValue("content");
+
+    @Schema(
+        title = "Close missing tasks",
+        description = "Close the project's active tasks whose key is not in the desired state, including extra tasks sharing a key with another; default true"
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Boolean> closeMissing = Property.ofValue(true);
+
+    @Schema(
+        title = "Dry run",
+        description = "Compute and report the changes without sending them; default false"
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Boolean> dryRun = Property.ofValue(false);
+
+    @Schema(
+        title = "Batch size",
+        description = "Number of commands per `/sync` request; capped at 100, default 100"
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Integer> batchSize = Property.ofValue(MAX_SYNC_COMMANDS);
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        Logger logger = runContext.logger();
+
+        String rToken = runContext.render(apiToken).as(String.class).orElseThrow();
+        String rProjectId = runContext.render(projectId).as(String.class).orElseThrow();
+        String rKeyField = runContext.render(keyField).as(String.class).orElse("content");
+        boolean rCloseMissing = runContext.render(closeMissing).as(Boolean.class).orElse(true);
+        boolean rDryRun = runContext.render(dryRun).as(Boolean.class).orElse(false);
+        int rBatchSize = Math.max(1, Math.min(runContext.render(batchSize).as(Integer.class).orElse(MAX_SYNC_COMMANDS), MAX_SYNC_COMMANDS));
+
+        // An unknown key field would give every project task a missing key, so it is rejected before anything is read
+        if (!FIELDS.containsKey(rKeyField)) {
+            throw new IllegalArgumentException("Invalid keyField '" + rKeyField + "', expected one of " + new TreeMap<>(FIELDS).keySet());
+        }
+        String keyPath = FIELDS.get(rKeyField);
+
+        Map<String, Map<String, Object>> desired = readDesired(runContext, rKeyField);
+
+        // Only the compared fields are materialized, so the index stays small for large projects
+        Set<String> indexedFields = new LinkedHashSet<>(FIELDS.values());
+        indexedFields.add("id");
+        indexedFields.add(keyPath);
+        FieldProjection projection = FieldProjection.of(List.copyOf(indexedFields));
+
+        Map<String, Map<String, Object>> current = new LinkedHashMap<>();
+        List<Map<String, Object>> duplicates = new ArrayList<>();
+        AtomicLong unkeyed = new AtomicLong();
+        listProjectTasks(runContext, rToken, rProjectId, projection, task -> {
+            Object key = value(task, keyPath);
+            // A task without a key cannot match any desired row, so it is left as it is rather than closed
+            if (key == null || key.toString().isBlank()) {
+                unkeyed.incrementAndGet();
+            } else if (current.putIfAbsent(key.toString(), task) != null) {
+                duplicates.add(task);
+            }
+        });
+        if (unkeyed.get() > 0) {
+            logger.warn("{} tasks of project {} have no '{}' and are left unchanged", unkeyed.get(), rProjectId, rKeyField);
+        }
+
+        List<Change> changes = new ArrayList<>();
+        long unchanged = 0;
+
+        for (Map.Entry<String, Map<String, Object>> entry : desired.entrySet()) {
+            Map<String, Object> row = entry.getValue();
+            Map<String, Object> task = current.get(entry.getKey());
+
+            if (task == null) {
+                Map<String, Object> args = itemArgs(row);
+                args.put("project_id", rProjectId);
+                changes.add(new Change(entry.getKey(), Action.ADD, null, args));
+            } else if (!hash(normalize(row, task, true)).equals(hash(normalize(row, task, false)))) {
+                Map<String, Object> args = itemArgs(row);
+                args.put("id", task.get("id").toString());
+                changes.add(new Change(entry.getKey(), Action.UPDATE, task.get("id").toString(), args));
+            } else {
+                unchanged++;
+            }
+        }
+
+        if (rCloseMissing) {
+            current.forEach((key, task) -> {
+                if (!desired.containsKey(key)) {
+                    changes.add(new Change(key, Action.CLOSE, task.get("id").toString(), Map.of("id", task.get("id").toString())));
+                }
+            });
+            for (Map<String, Object> task : duplicates) {
+                changes.add(new Change(value(task, keyPath).toString(), Action.CLOSE, task.get("id").toString(), Map.of("id", task.get("id").toString())));
+            }
+        }
+
+        Map<Action, Long> applied = new LinkedHashMap<>();
+        for (Action action : Action.values()) {
+            applied.put(action, 0L);
+        }
+        long failed = 0;
+
+        File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
+        try (OutputStream output = new BufferedOutputStream(new FileOutputStream(tempFile))) {
+            for (int start = 0; start < changes.size(); start += rBatchSize) {
+                List<Change> batch = changes.subList(start, Math.min(start + rBatchSize, changes.size()));
+
+                Map<String, Object> syncResponse = null;
+                List<Map<String, Object>> commands = new ArrayList<>(batch.size());
+                for (Change change : batch) {
+                    // Stable command uuids let a retried run resend a batch without applying it twice; closes are scoped
+                    // by task ID, since duplicated tasks share their key
+                    String scope = "reconcile:" + change.action().name() + ":" + (change.taskId() != null ? change.taskId() : change.key());
+                    String tempId = change.action() == Action.ADD ? requestId(runContext, scope + ":temp_id") : null;
+                    commands.add(syncCommand(change.action().commandType, requestId(runContext, scope), tempId, change.args()));
+                }
+                if (!rDryRun) {
+                    syncResponse = sendSyncCommands(runContext, rToken, commands);
+                }
+
+                for (int i = 0; i < batch.size(); i++) {
+                    Change change = batch.get(i);
+                    String error = syncResponse != null ? syncCommandError(syncResponse, commands.get(i)) : null;
+                    String taskId = change.taskId();
+                    if (syncResponse != null && change.action() == Action.ADD && error == null) {
+                        @SuppressWarnings("unchecked")
+                        Map<String, Object> tempIdMapping = (Map<String, Object>) syncResponse.getOrDefault("temp_id_mapping", Map.of());
+                        Object createdId = tempIdMapping.get(commands.get(i).get("temp_id").toString());
+                        taskId = createdId != null ? createdId.toString() : null;
+                    }
+                    if (syncResponse != null && change.action() != Action.ADD && taskId != null) {
+                        TaskCache.invalidate(rToken, taskId);
+                    }
+
+                    Map<String, Object> result = new LinkedHashMap<>();
+                    result.put("key", change.key());
+                    result.put("action", change.action().name().toLowerCase());
+                    result.put("taskId", taskId);
+                    result.put("status", rDryRun ? "planned" : (error == null ? "ok" : "error"));
+                    if (error != null) {
+                        result.put("error", error);
+                        failed++;
+                    } else {
+                        applied.merge(change.action(), 1L, Long::sum);
+                    }
+                    FileSerde.write(output, result);
+                }
+            }
+        }
+
+        for (Action action : Action.values()) {
+            runContext.metric(Counter.of("tasks.reconciled", applied.get(action), "action", action.name().toLowerCase(), "dryRun", String.valueOf(rDryRun)));
+        }
+        if (failed > 0) {
+            logger.warn("{} of {} changes were rejected by Todoist", failed, changes.size());
+        }
+        logger.info(
+            "{} {} added, {} updated, {} closed, {} unchanged",
+            rDryRun ? "Dry run:" : "Reconciled:",
+            applied.get(Action.ADD), applied.get(Action.UPDATE), applied.get(Action.CLOSE), unchanged
+        );
+
+        return Output.builder()
+            .uri(runContext.storage().putFile(tempFile))
+            .added(applied.get(Action.ADD))
+            .updated(applied.get(Action.UPDATE))
+            .closed(applied.get(Action.CLOSE))
+            .unchanged(unchanged)
+            .failed(failed)
+            .dryRun(rDryRun)
+            .build();
+    }
+
+    /**
+     * Reads the desired rows keyed by {@code keyField}, rejecting rows without a key or content, non-list labels and
+     * duplicated keys
+     */
+    private Map<String, Map<String, Object>> readDesired(RunContext runContext, String keyField) throws Exception {
+        Map<String, Map<String, Object>> desired = new LinkedHashMap<>();
+        long index = 0;
+
+        @SuppressWarnings("rawtypes")
+        Iterable<Map> rows = Data.from(from).readAs(runContext, Map.class, row -> row).toIterable();
+        for (Map<?, ?> row : rows) {
+            Object key = row.get(keyField);
+            if (key == null || key.toString().isBlank()) {
+                throw new IllegalArgumentException("Row " + index + " has no '" + keyField + "'");
+            }
+            if (row.get("content") == null) {
+                throw new IllegalArgumentException("Row " + index + " has no 'content'");
+            }
+            // Compared and sent as a list only, so a single label must be given as a one-element list
+            if (row.get("labels") != null && !(row.get("labels") instanceof List<?>)) {
+                throw new IllegalArgumentException("Row " + index + " has 'labels' that is not a list");
+            }
+
+            Map<String, Object> values = new LinkedHashMap<>();
+            row.forEach((field, value) -> values.put(field.toString(), value));
+            if (desired.put(key.toString(), values) != null) {
+                throw new IllegalArgumentException("Key '" + key + "' appears more than once in the desired state");
+            }
+            index++;
+        }
+
+        return desired;
+    }
+
+    /**
+     * Streams every active task of the project into the handler
+     */
+    private void listProjectTasks(RunContext runContext, String token, String projectId, FieldProjection projection, TaskPageParser.TaskHandler handler) throws Exception {
+        String cursor = null;
+
+        do {
+            String url = baseUrl(runContext) + "/tasks?project_id=" + URLEncoder.encode(projectId, StandardCharsets.UTF_8) + "&limit=" + MAX_PAGE_SIZE
+                + (cursor != null ? "&cursor=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8) : "");
+
+            HttpRequest request = createRequestBuilder(token, url)
+                .method("GET")
+                .build();
+
+            TodoistHttpClient.Exchange<String> exchange;
+            try {
+                exchange = sendStreamingRequest(runContext, request, body -> TaskPageParser.parse(body, projection, handler));
+            } catch (JsonProcessingException e) {
+                throw new Exception("Failed to parse tasks response: " + e.getOriginalMessage(), e);
+            }
+
+            if (exchange.response().getStatus().getCode() >= 400) {
+                throw new Exception("Failed to list tasks: " + exchange.response().getStatus().getCode() + " - " + exchange.errorBody());
+            }
+
+            runContext.metric(Counter.of("pages", 1));
+            cursor = exchange.response().getBody();
+        } while (cursor != null);
+    }
+
+    /**
+     * `item_add` / `item_update` arguments for the fields the row sets
+     */
+    private static Map<String, Object> itemArgs(Map<String, Object> row) {
+        Map<String, Object> args = new LinkedHashMap<>();
+        args.put("content", row.get("content").toString());
+        if (row.get("taskDescription") != null) {
+            args.put("description", row.get("taskDescription").toString());
+        }
+        if (row.get("priority") != null) {
+            args.put("priority", Integer.valueOf(row.get("priority").toString()));
+        }
+        if (row.get("labels") instanceof List<?> labels) {
+            args.put("labels", labels.stream().map(String::valueOf).toList());
+        }
+        if (row.get("dueString") != null) {
+            args.put("due", Map.of("string", row.get("dueString").toString()));
+        }
+        return args;
+    }
+
+    /**
+     * Values of the fields the row sets, taken from the row ({@code desired}) or from the Todoist task, in a form
+     * where equal values compare equal: missing descriptions are empty, priorities are integers and labels are sorted
+     */
+    private static Map<String, Object> normalize(Map<String, Object> row, Map<String, Object> task, boolean desired) {
+        Map<String, Object> values = new TreeMap<>();
+
+        for (Map.Entry<String, String> field : FIELDS.entrySet()) {
+            if (row.get(field.getKey()) == null) {
+                continue;
+            }
+
+            Object value = desired ? row.get(field.getKey()) : value(task, field.getValue());
+            if (value instanceof List<?> list) {
+                value = list.stream().map(String::valueOf).sorted().toList();
+            } else if ("priority".equals(field.getKey()) && value != null) {
+                value = Integer.valueOf(value.toString());
+            } else {
+                value = value == null ? "" : value.toString();
+            }
+            values.put(field.getKey(), value);
+        }
+
+        return values;
+    }
+
+    /**
+     * SHA-256 of the normalized fields, the content hash compared between desired and current tasks
+     */
+    private static String hash(Map<String, Object> values) throws Exception {
+        byte[] json = JacksonMapper.ofJson().writeValueAsBytes(values);
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json));
+    }
+
+    private static Object value(Map<String, Object> task, String path) {
+        Object value = task;
+        for (String segment : path.split("\\.")) {
+            if (!(value instanceof Map<?, ?> map)) {
+                return null;
+            }
+            value = map.get(segment);
+        }
+        return value;
+    }
+
+    private enum Action {
+        ADD("item_add"),
+        UPDATE("item_update"),
+        CLOSE("item_close");
+
+        private final String commandType;
+
+        Action(String commandType) {
+            this.commandType = commandType;
+        }
+    }
+
+    private record Change(String key, Action action, String taskId, Map<String, Object> args) {
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "URI",
+            description = "Internal storage URI (`kestra://`) of an Ion file with the `key`, `action` (`add`, `update`, `close`), `taskId`, `status` (`ok`, `error` or `planned` in a dry run) and Todoist `error` of each change"
+        )
+        private final URI uri;
+
+        @Schema(
+            title = "Added",
+            description = "Number of tasks added, or to add in a dry run"
+        )
+        private final Long added;
+
+        @Schema(
+            title = "Updated",
+            description = "Number of tasks updated, or to update in a dry run"
+        )
+        private final Long updated;
+
+        @Schema(
+            title = "Closed",
+            description = "Number of tasks closed, or to close in a dry run"
+        )
+        private final Long closed;
+
+        @Schema(
+            title = "Unchanged",
+            description = "Number of desired tasks already matching Todoist"
+        )
+        private final Long unchanged;
+
+        @Schema(
+            title = "Failed",
+            description = "Number of commands rejected by Todoist"
+        )
+        private final Long failed;
+
+        @Schema(
+            title = "Dry run",
+            description = "Whether the changes were only planned"
+        )
+        private final Boolean dryRun;
+    }
+}
@@ -0,0 +1,209 @@
+package io.kestra.plugin.todoist;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.models.tasks.common.FetchType;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import io.kestra.core.models.annotations.PluginProperty;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Sync Todoist task changes incrementally",
+    description = "Calls `/sync` for items and returns only what changed since the previous run. The `sync_token` checkpoint is kept in the namespace KV store, keyed by flow and task id; the first run performs a full sync and returns every active task as added."
+)
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            title = "Pull task changes every hour",
+            code = """
+                id: todoist_sync_tasks
+                namespace: company.team
+
+                tasks:
+                  - id: sync_tasks
+                    type: io.kestra.plugin.todoist.SyncTasks
+                    apiToken: "{{ secret('TODOIST_API_TOKEN') }}"
+
+                triggers:
+                  - id: hourly
+                    type: io.kestra.plugin.core.trigger.Schedule
+                    cron: "0 * * * *"
+                """
+        ),
+        @Example(
+            full = true,
+            title = "Store changes in internal storage",
+            code = """
+                id: todoist_sync_tasks_store
+                namespace: company.team
+
+                tasks:
+                  - id: sync_tasks
+                    type: io.kestra.plugin.todoist.SyncTasks
+                    apiToken: "{{ secret('TODOIST_API_TOKEN') }}"
+                    fetchType: STORE
+                """
+        )
+    }
+)
+public class SyncTasks extends AbstractTodoistTask implements RunnableTask<SyncTasks.Output> {
+
+    @Schema(
+        title = "State key",
+        description = "KV store key holding the sync checkpoint; defaults to a key derived from the namespace, flow id and task id"
+    )
+    @PluginProperty(group = "advanced")
+    private Property<String> stateKey;
+
+    @Schema(
+        title = "Fetch Type",
+        description = "Output mode: FETCH (changes as lists) or STORE (one Ion file per change type in internal storage `kestra://`); default FETCH"
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<FetchType> fetchType = Property.ofValue(FetchType.FETCH);
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        Logger logger = runContext.logger();
+
+        String rToken = runContext.render(apiToken).as(String.class).orElseThrow();
+        String rStateKey = runContext.render(stateKey).as(String.class).orElse(TodoistSync.defaultStateKey(runContext, this.getId()));
+        FetchType rFetchType = runContext.render(fetchType).as(FetchType.class).orElse(FetchType.FETCH);
+
+        if (rFetchType == FetchType.FETCH_ONE) {
+            throw new IllegalArgumentException("fetchType FETCH_ONE is not supported by SyncTasks, use FETCH or STORE");
+        }
+
+        TodoistSync.State state = TodoistSync.loadState(runContext, rStateKey);
+
+        TodoistSync.Delta delta = TodoistSync.fetchItems(request -> sendRequest(runContext, request), baseUrl(runContext), rToken, state);
+
+        runContext.metric(Counter.of("tasks.emitted", delta.size(), "sync", delta.fullSync() ? "full" : "incremental"));
+        logger.info(
+            "{} sync: {} added, {} updated, {} completed, {} deleted",
+            delta.fullSync() ? "Full" : "Incremental",
+            delta.added().size(), delta.updated().size(), delta.completed().size(), delta.deleted().size()
+        );
+
+        Output.OutputBuilder outputBuilder = Output.builder()
+            .fullSync(delta.fullSync())
+            .size((long) delta.size());
+
+        if (rFetchType == FetchType.STORE) {
+            outputBuilder
+                .addedUri(store(runContext, delta.added()))
+                .updatedUri(store(runContext, delta.updated()))
+                .completedUri(store(runContext, delta.completed()))
+                .deletedUri(store(runContext, delta.deleted()));
+        } else {
+            outputBuilder
+                .added(delta.added())
+                .updated(delta.updated())
+                .completed(delta.completed())
+                .deleted(delta.deleted());
+        }
+
+        // Only move the checkpoint once the delta has been handed over
+        TodoistSync.saveState(runContext, rStateKey, new TodoistSync.State(delta.syncToken(), delta.watermark()));
+
+        return outputBuilder.build();
+    }
+
+    private static URI store(RunContext runContext, List<Map<String, Object>> items) throws Exception {
+        File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
+        try (OutputStream output = new BufferedOutputStream(new FileOutputStream(tempFile))) {
+            for (Map<String, Object> item : items) {
+                FileSerde.write(output, item);
+            }
+        }
+        return runContext.storage().putFile(tempFile);
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "Full sync",
+            description = "Whether this run had no checkpoint and returned the full task list"
+        )
+        private final Boolean fullSync;
+
+        @Schema(
+            title = "Size",
+            description = "Total number of changed tasks"
+        )
+        private final Long size;
+
+        @Schema(
+            title = "Added",
+            description = "Tasks created since the previous run when fetchType is FETCH"
+        )
+        private final List<Map<String, Object>> added;
+
+        @Schema(
+            title = "Updated",
+            description = "Tasks modified since the previous run when fetchType is FETCH"
+        )
+        private final List<Map<String, Object>> updated;
+
+        @Schema(
+            title = "Completed",
+            description = "Tasks completed since the previous run when fetchType is FETCH"
+        )
+        private final List<Map<String, Object>> completed;
+
+        @Schema(
+            title = "Deleted",
+            description = "Tasks deleted since the previous run when fetchType is FETCH"
+        )
+        private final List<Map<String, Object>> deleted;
+
+        @Schema(
+            title = "Added URI",
+            description = "Internal storage URI (`kestra://`) of added tasks when fetchType is STORE"
+        )
+        private final URI addedUri;
+
+        @Schema(
+            title = "Updated URI",
+            description = "Internal storage URI (`kestra://`) of updated tasks when fetchType is STORE"
+        )
+        private final URI updatedUri;
+
+        @Schema(
+            title = "Completed URI",
+            description = "Internal storage URI (`kestra://`) of completed tasks when fetchType is STORE"
+        )
+        private final URI completedUri;
+
+        @Schema(
+            title = "Deleted URI",
+            description = "Internal storage URI (`kestra://`) of deleted tasks when fetchType is STORE"
+        )
+        private final URI deletedUri;
+    }
+}
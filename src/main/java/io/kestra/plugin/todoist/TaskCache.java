@@ -0,0 +1,85 @@
+package io.kestra.plugin.todoist;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Worker-local LRU cache of tasks read by {@link GetTask}, keyed by API token hash and task ID.
+ * <p>
+ * Entries are fresh for the TTL given when they are read; stale entries keep their `ETag` / `Last-Modified`
+ * validators so they can be revalidated with a conditional request. Tasks that modify a task on this worker
+ * invalidate its entry. The latest maximum size given wins, like the connection pool and rate limiter settings.
+ */
+final class TaskCache {
+    private static final LinkedHashMap<String, Entry> ENTRIES = new LinkedHashMap<>(16, 0.75f, true);
+    private static int maxSize = 1000;
+
+    private TaskCache() {
+    }
+
+    /**
+     * Cached task, read-only as it is shared by every run of the worker, and the validators Todoist sent with it.
+     */
+    record Entry(Map<String, Object> task, String etag, String lastModified, long storedAt) {
+        boolean isFresh(Duration ttl) {
+            return System.nanoTime() - storedAt < ttl.toNanos();
+        }
+
+        Entry refreshed() {
+            return new Entry(task, etag, lastModified, System.nanoTime());
+        }
+    }
+
+    static synchronized Entry get(String token, String taskId) {
+        return ENTRIES.get(key(token, taskId));
+    }
+
+    static synchronized void put(String token, String taskId, Map<String, Object> task, String etag, String lastModified, int size) {
+        maxSize = Math.max(1, size);
+        ENTRIES.put(key(token, taskId), new Entry(unmodifiable(task), etag, lastModified, System.nanoTime()));
+        evict();
+    }
+
+    static synchronized void refresh(String token, String taskId, Entry entry) {
+        ENTRIES.put(key(token, taskId), entry.refreshed());
+    }
+
+    /**
+     * Drops the cached task, called whenever a task of this worker modifies or removes it.
+     */
+    static synchronized void invalidate(String token, String taskId) {
+        ENTRIES.remove(key(token, taskId));
+    }
+
+    private static void evict() {
+        Iterator<Map.Entry<String, Entry>> eldest = ENTRIES.entrySet().iterator();
+        while (ENTRIES.size() > maxSize && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T unmodifiable(T value) {
+        if (value instanceof Map<?, ?> map) {
+            Map<Object, Object> copy = new LinkedHashMap<>();
+            map.forEach((k, v) -> copy.put(k, unmodifiable(v)));
+            return (T) Collections.unmodifiableMap(copy);
+        }
+        if (value instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>(list.size());
+            list.forEach(v -> copy.add(unmodifiable(v)));
+            return (T) Collections.unmodifiableList(copy);
+        }
+        return value;
+    }
+
+    private static String key(String token, String taskId) {
+        return TodoistHttpClient.hash(token) + ":" + taskId;
+    }
+}
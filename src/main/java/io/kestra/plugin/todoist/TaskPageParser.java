@@ -0,0 +1,95 @@
+package io.kestra.plugin.todoist;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.kestra.core.serializers.JacksonMapper;
+
+/**
+ * Single-pass streaming parser for task list pages.
+ * <p>
+ * Tasks are read one at a time from the `results` array (or the `items` / `data` fallbacks, or a bare array) and
+ * handed to a {@link TaskHandler} as soon as they are complete, while `next_cursor` is picked up in the same pass.
+ * The page is never materialized as a whole.
+ */
+final class TaskPageParser {
+    private static final ObjectMapper MAPPER = JacksonMapper.ofJson();
+    private static final TypeReference<Map<String, Object>> TASK_TYPE = new TypeReference<>() {};
+    private static final Set<String> TASK_ARRAYS = Set.of("results", "items", "data");
+
+    private TaskPageParser() {
+    }
+
+    @FunctionalInterface
+    interface TaskHandler {
+        void accept(Map<String, Object> task) throws IOException;
+    }
+
+    /**
+     * Streams the tasks of one page into the handler and returns the next cursor, or null on the last page.
+     * When a projection is given, only its fields are materialized.
+     */
+    static String parse(InputStream body, FieldProjection projection, TaskHandler handler) throws IOException {
+        try (JsonParser parser = MAPPER.getFactory().createParser(body)) {
+            JsonToken token = parser.nextToken();
+
+            if (token == JsonToken.START_ARRAY) {
+                readTasks(parser, projection, handler);
+                return null;
+            }
+            if (token != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object or array of tasks but got " + token);
+            }
+
+            String cursor = null;
+            boolean tasksRead = false;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                if (!tasksRead && value == JsonToken.START_ARRAY && TASK_ARRAYS.contains(field)) {
+                    readTasks(parser, projection, handler);
+                    tasksRead = true;
+                } else if ("next_cursor".equals(field)) {
+                    cursor = value == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            return cursor == null || cursor.isEmpty() ? null : cursor;
+        }
+    }
+
+    /**
+     * Reads a single task object, as returned by `/tasks/{id}`.
+     */
+    static Map<String, Object> parseTask(InputStream body, FieldProjection projection) throws IOException {
+        try (JsonParser parser = MAPPER.getFactory().createParser(body)) {
+            JsonToken token = parser.nextToken();
+            if (token != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON task object but got " + token);
+            }
+            return readTask(parser, projection);
+        }
+    }
+
+    private static void readTasks(JsonParser parser, FieldProjection projection, TaskHandler handler) throws IOException {
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            handler.accept(readTask(parser, projection));
+        }
+    }
+
+    private static Map<String, Object> readTask(JsonParser parser, FieldProjection projection) throws IOException {
+        return projection != null ? projection.read(parser) : MAPPER.readValue(parser, TASK_TYPE);
+    }
+}
@@ -0,0 +1,143 @@
+package io.kestra.plugin.todoist;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plans a task listing into a single Todoist request.
+ * <p>
+ * Criteria that `/tasks` accepts as parameters (project, section, one label) are sent as such. As soon as a filter
+ * query, a priority, a due range or several labels are involved, all criteria are combined into one `/tasks/filter`
+ * query (e.g. `#Work & p1 & due before: +7 days`), so only matching tasks come over the wire.
+ */
+final class TaskQuery {
+    private static final String SPECIAL_CHARACTERS = "\\&|!(),";
+
+    private final String projectId;
+    private final String sectionId;
+    private final String label;
+    private final String query;
+
+    private TaskQuery(String projectId, String sectionId, String label, String query) {
+        this.projectId = projectId;
+        this.sectionId = sectionId;
+        this.label = label;
+        this.query = query;
+    }
+
+    /**
+     * Resolves the project and section names a filter query refers to.
+     */
+    interface NameResolver {
+        String projectName(String projectId) throws Exception;
+
+        String sectionName(String sectionId) throws Exception;
+    }
+
+    /**
+     * Plans the criteria into a request; null or empty criteria are ignored, and no criteria lists every active task.
+     */
+    static TaskQuery plan(
+        String projectId,
+        String sectionId,
+        List<String> labels,
+        Integer priority,
+        String dueAfter,
+        String dueBefore,
+        String filter,
+        NameResolver names
+    ) throws Exception {
+        List<String> rLabels = labels == null ? List.of() : labels;
+
+        if (priority != null && (priority < 1 || priority > 4)) {
+            throw new IllegalArgumentException("Invalid priority " + priority + ", expected 1 (highest) to 4 (lowest)");
+        }
+
+        if (filter == null && priority == null && dueAfter == null && dueBefore == null && rLabels.size() <= 1) {
+            return new TaskQuery(projectId, sectionId, rLabels.isEmpty() ? null : rLabels.getFirst(), null);
+        }
+
+        List<String> terms = new ArrayList<>();
+        if (projectId != null) {
+            terms.add("#" + escape(names.projectName(projectId)));
+        }
+        if (sectionId != null) {
+            terms.add("/" + escape(names.sectionName(sectionId)));
+        }
+        rLabels.forEach(label -> terms.add("@" + escape(label)));
+        if (priority != null) {
+            terms.add("p" + priority);
+        }
+        if (dueAfter != null) {
+            terms.add("due after: " + dueAfter);
+        }
+        if (dueBefore != null) {
+            terms.add("due before: " + dueBefore);
+        }
+        if (filter != null) {
+            terms.add(terms.isEmpty() ? filter : "(" + filter + ")");
+        }
+
+        return new TaskQuery(null, null, null, String.join(" & ", terms));
+    }
+
+    /**
+     * Builds the URL of one page of this query.
+     */
+    String buildUrl(String baseUrl, Integer limit, String cursor) {
+        StringBuilder urlBuilder = new StringBuilder(baseUrl);
+        List<String> params = new ArrayList<>();
+
+        if (query != null) {
+            // API v1 uses 'query' parameter, not 'filter'
+            urlBuilder.append("/tasks/filter");
+            params.add("query=" + encode(query));
+        } else {
+            urlBuilder.append("/tasks");
+            if (projectId != null) {
+                params.add("project_id=" + encode(projectId));
+            }
+            if (sectionId != null) {
+                params.add("section_id=" + encode(sectionId));
+            }
+            if (label != null) {
+                params.add("label=" + encode(label));
+            }
+        }
+        if (limit != null) {
+            params.add("limit=" + limit);
+        }
+        if (cursor != null) {
+            params.add("cursor=" + encode(cursor));
+        }
+
+        if (!params.isEmpty()) {
+            urlBuilder.append('?').append(String.join("&", params));
+        }
+        return urlBuilder.toString();
+    }
+
+    /**
+     * The filter query sent to `/tasks/filter`, or null when `/tasks` parameters are used.
+     */
+    String query() {
+        return query;
+    }
+
+    private static String escape(String name) {
+        StringBuilder escaped = new StringBuilder(name.length());
+        for (char c : name.toCharArray()) {
+            if (SPECIAL_CHARACTERS.indexOf(c) >= 0) {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,169 @@
+package io.kestra.plugin.todoist;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.luben.zstd.ZstdOutputStream;
+
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.serializers.JacksonMapper;
+
+/**
+ * Streaming writers for the files produced in STORE mode: Ion, JSON Lines or CSV, optionally compressed while written.
+ * <p>
+ * Tasks are encoded and compressed one at a time, so a store file never needs more memory than a single task.
+ */
+final class TaskStore {
+    private static final ObjectMapper MAPPER = JacksonMapper.ofJson();
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Columns written to CSV when no field projection is given; nested fields are flattened with dotted paths.
+     */
+    static final List<String> DEFAULT_CSV_COLUMNS = List.of(
+        "id", "content", "description", "project_id", "section_id", "parent_id", "priority", "labels",
+        "due.date", "due.datetime", "due.string", "due.is_recurring", "added_at", "updated_at", "completed_at", "checked"
+    );
+
+    private TaskStore() {
+    }
+
+    /**
+     * File suffix of a store file, e.g. `.jsonl.gz`
+     */
+    static String extension(ListTasks.StoreFormat format, ListTasks.StoreCodec codec) {
+        return format.extension() + codec.extension();
+    }
+
+    /**
+     * Opens a writer on the file; {@code columns} are the CSV columns and are ignored by the other formats.
+     */
+    static TaskWriter open(File file, ListTasks.StoreFormat format, ListTasks.StoreCodec codec, List<String> columns) throws IOException {
+        OutputStream output = new BufferedOutputStream(compress(new FileOutputStream(file), codec), BUFFER_SIZE);
+
+        return switch (format) {
+            case ION -> new IonWriter(output);
+            case JSONL -> new JsonLinesWriter(output);
+            case CSV -> new CsvWriter(output, columns.isEmpty() ? DEFAULT_CSV_COLUMNS : columns);
+        };
+    }
+
+    private static OutputStream compress(OutputStream output, ListTasks.StoreCodec codec) throws IOException {
+        return switch (codec) {
+            case NONE -> output;
+            case GZIP -> new GZIPOutputStream(output, BUFFER_SIZE);
+            case ZSTD -> new ZstdOutputStream(output);
+        };
+    }
+
+    interface TaskWriter extends Closeable {
+        void write(Map<String, Object> task) throws IOException;
+    }
+
+    private record IonWriter(OutputStream output) implements TaskWriter {
+        @Override
+        public void write(Map<String, Object> task) throws IOException {
+            FileSerde.write(output, task);
+        }
+
+        @Override
+        public void close() throws IOException {
+            output.close();
+        }
+    }
+
+    private record JsonLinesWriter(OutputStream output) implements TaskWriter {
+        @Override
+        public void write(Map<String, Object> task) throws IOException {
+            output.write(MAPPER.writeValueAsBytes(task));
+            output.write('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            output.close();
+        }
+    }
+
+    /**
+     * RFC 4180 CSV with a header row; lists are joined with commas and nested objects are written as JSON.
+     */
+    private static final class CsvWriter implements TaskWriter {
+        private final Writer writer;
+        private final List<String[]> paths;
+
+        private CsvWriter(OutputStream output, List<String> columns) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+            this.paths = columns.stream().map(column -> column.split("\\.")).toList();
+            writeRow(columns);
+        }
+
+        @Override
+        public void write(Map<String, Object> task) throws IOException {
+            writeRow(paths.stream().map(path -> cell(value(task, path))).toList());
+        }
+
+        private void writeRow(List<String> cells) throws IOException {
+            for (int i = 0; i < cells.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(quote(cells.get(i)));
+            }
+            writer.write("\r\n");
+        }
+
+        private static Object value(Map<String, Object> task, String[] path) {
+            Object value = task;
+            for (String segment : path) {
+                if (!(value instanceof Map<?, ?> map)) {
+                    return null;
+                }
+                value = map.get(segment);
+            }
+            return value;
+        }
+
+        private static String cell(Object value) {
+            if (value == null) {
+                return "";
+            }
+            if (value instanceof List<?> list) {
+                return list.stream().map(String::valueOf).collect(Collectors.joining(","));
+            }
+            if (value instanceof Map<?, ?>) {
+                try {
+                    return MAPPER.writeValueAsString(value);
+                } catch (IOException e) {
+                    return String.valueOf(value);
+                }
+            }
+            return String.valueOf(value);
+        }
+
+        private static String quote(String cell) {
+            if (cell.indexOf(',') < 0 && cell.indexOf('"') < 0 && cell.indexOf('\n') < 0 && cell.indexOf('\r') < 0) {
+                return cell;
+            }
+            return '"' + cell.replace("\"", "\"\"") + '"';
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+}
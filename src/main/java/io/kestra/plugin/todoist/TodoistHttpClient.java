@@ -0,0 +1,345 @@
+package io.kestra.plugin.todoist;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.net.http.HttpHeaders;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.GeneralSecurityException;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.hc.client5.http.auth.AuthScope;
+import org.apache.hc.client5.http.auth.UsernamePasswordCredentials;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.auth.BasicCredentialsProvider;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
+import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactoryBuilder;
+import org.apache.hc.client5.http.ssl.TrustAllStrategy;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.EndpointDetails;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.apache.hc.core5.http.io.support.ClassicRequestBuilder;
+import org.apache.hc.core5.ssl.SSLContextBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.http.HttpRequest;
+import io.kestra.core.http.HttpResponse;
+import io.kestra.core.http.client.configurations.HttpConfiguration;
+import io.kestra.core.runners.RunContext;
+
+/**
+ * Keep-alive HTTP client shared by every Todoist task and trigger running in the same worker.
+ * <p>
+ * One connection pool is kept per API token (hashed) and connection settings, so paginated or repeated calls
+ * reuse established TLS connections instead of paying a handshake on every request. A pool is leased for the
+ * duration of a call and only closed once no call holds it and it has not been used for a while.
+ */
+final class TodoistHttpClient {
+    private static final Map<String, TodoistHttpClient> CLIENTS = new ConcurrentHashMap<>();
+    private static final Duration UNUSED_CLIENT_TTL = Duration.ofMinutes(15);
+    private static final BodyReader<String> STRING_BODY = body -> new String(body.readAllBytes(), StandardCharsets.UTF_8);
+
+    private final CloseableHttpClient client;
+    private final AtomicInteger leases = new AtomicInteger();
+    private volatile long lastUsed = System.nanoTime();
+
+    private TodoistHttpClient(int maxConnections, Duration idleTimeout, HttpOptions options) {
+        PoolingHttpClientConnectionManagerBuilder connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+            .useSystemProperties()
+            .setMaxConnTotal(maxConnections)
+            .setMaxConnPerRoute(maxConnections)
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(options.connectTimeout().toMillis()))
+                .setSocketTimeout(Timeout.ofMilliseconds(options.readTimeout().toMillis()))
+                .build());
+
+        if (options.trustAllCertificates()) {
+            try {
+                connectionManager.setSSLSocketFactory(SSLConnectionSocketFactoryBuilder.create()
+                    .setSslContext(SSLContextBuilder.create().loadTrustMaterial(TrustAllStrategy.INSTANCE).build())
+                    .setHostnameVerifier(NoopHostnameVerifier.INSTANCE)
+                    .build());
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Unable to build a trust-all SSL context", e);
+            }
+        }
+
+        HttpClientBuilder builder = HttpClients.custom()
+            .useSystemProperties()
+            .setUserAgent("Kestra")
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(options.readTimeout().toMillis()))
+                .setResponseTimeout(Timeout.ofMilliseconds(options.readTimeout().toMillis()))
+                .build())
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.ofMilliseconds(idleTimeout.toMillis()));
+
+        if (options.proxyType() == Proxy.Type.HTTP) {
+            HttpHost proxy = new HttpHost(options.proxyAddress(), options.proxyPort());
+            builder.setProxy(proxy);
+            if (options.proxyUsername() != null) {
+                BasicCredentialsProvider credentials = new BasicCredentialsProvider();
+                credentials.setCredentials(
+                    new AuthScope(proxy),
+                    new UsernamePasswordCredentials(options.proxyUsername(), options.proxyPassword() != null ? options.proxyPassword().toCharArray() : new char[0])
+                );
+                builder.setDefaultCredentialsProvider(credentials);
+            }
+        } else if (options.proxyType() == Proxy.Type.SOCKS) {
+            connectionManager.setDefaultSocketConfig(SocketConfig.custom()
+                .setSocksProxyAddress(new InetSocketAddress(options.proxyAddress(), options.proxyPort()))
+                .build());
+        }
+
+        this.client = builder.setConnectionManager(connectionManager.build()).build();
+    }
+
+    /**
+     * Leases the pooled client for this token and connection settings, creating it on first use.
+     * Every lease must be given back with {@link #release()} once the call is done.
+     */
+    static TodoistHttpClient of(String token, int maxConnections, Duration idleTimeout, HttpOptions options) {
+        closeUnused();
+
+        String key = hash(token + ":" + maxConnections + ":" + idleTimeout.toMillis() + ":" + options);
+        // Leased under the map's lock, so closeUnused cannot evict the pool between lookup and use
+        return CLIENTS.compute(key, (k, client) -> {
+            TodoistHttpClient leased = client != null ? client : new TodoistHttpClient(maxConnections, idleTimeout, options);
+            leased.leases.incrementAndGet();
+            leased.lastUsed = System.nanoTime();
+            return leased;
+        });
+    }
+
+    /**
+     * Gives back a lease taken with {@link #of}.
+     */
+    void release() {
+        lastUsed = System.nanoTime();
+        leases.decrementAndGet();
+    }
+
+    /**
+     * Sends the request on a pooled connection and buffers the body as a string, whatever the status.
+     */
+    Exchange<String> request(HttpRequest request) throws IOException {
+        return execute(request, STRING_BODY, true);
+    }
+
+    /**
+     * Sends the request on a pooled connection and hands a successful body to the reader while it is streamed.
+     * Error bodies (status 400 and above) are buffered into {@link Exchange#errorBody()} instead.
+     */
+    <T> Exchange<T> request(HttpRequest request, BodyReader<T> reader) throws IOException {
+        return execute(request, reader, false);
+    }
+
+    private <T> Exchange<T> execute(HttpRequest request, BodyReader<T> reader, boolean readErrors) throws IOException {
+        lastUsed = System.nanoTime();
+
+        ClassicRequestBuilder builder = ClassicRequestBuilder.create(request.getMethod())
+            .setUri(request.getUri());
+        if (request.getHeaders() != null) {
+            request.getHeaders().map().forEach((name, values) -> values.forEach(value -> builder.addHeader(name, value)));
+        }
+        if (request.getBody() instanceof HttpRequest.StringRequestBody body) {
+            builder.setEntity(new StringEntity(body.getContent(), ContentType.APPLICATION_JSON));
+        }
+
+        HttpClientContext context = HttpClientContext.create();
+        return client.execute(builder.build(), context, response -> {
+            boolean newConnection = isNewConnection(context);
+            int status = response.getCode();
+
+            T body = null;
+            String errorBody = null;
+            long bytesReceived = 0;
+            if (response.getEntity() != null) {
+                if (status < 400 || readErrors) {
+                    try (CountingInputStream content = new CountingInputStream(response.getEntity().getContent())) {
+                        body = reader.read(content);
+                        bytesReceived = content.count;
+                    }
+                } else {
+                    byte[] bytes = EntityUtils.toByteArray(response.getEntity());
+                    errorBody = new String(bytes, StandardCharsets.UTF_8);
+                    bytesReceived = bytes.length;
+                }
+            }
+
+            Map<String, List<String>> headers = new LinkedHashMap<>();
+            for (Header header : response.getHeaders()) {
+                headers.computeIfAbsent(header.getName(), k -> new ArrayList<>()).add(header.getValue());
+            }
+
+            HttpResponse<T> httpResponse = HttpResponse.<T>builder()
+                .request(request)
+                .status(HttpResponse.Status.builder().code(status).reason(response.getReasonPhrase()).build())
+                .headers(HttpHeaders.of(headers, (k, v) -> true))
+                .body(body)
+                .build();
+
+            return new Exchange<>(httpResponse, errorBody, newConnection, bytesReceived);
+        });
+    }
+
+    private static boolean isNewConnection(HttpClientContext context) {
+        // A connection that has served a single request was opened (and TLS-negotiated) for this one
+        EndpointDetails endpoint = context.getEndpointDetails();
+        return endpoint == null || endpoint.getRequestCount() <= 1;
+    }
+
+    private static void closeUnused() {
+        long now = System.nanoTime();
+        for (String key : CLIENTS.keySet()) {
+            // Checked and closed under the map's lock, the same one of() leases under
+            CLIENTS.computeIfPresent(key, (k, client) -> {
+                if (client.leases.get() > 0 || now - client.lastUsed < UNUSED_CLIENT_TTL.toNanos()) {
+                    return client;
+                }
+                try {
+                    client.client.close();
+                } catch (IOException ignored) {
+                    // the pool is discarded anyway
+                }
+                return null;
+            });
+        }
+    }
+
+    static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @FunctionalInterface
+    interface BodyReader<T> {
+        T read(InputStream body) throws IOException;
+    }
+
+    /**
+     * Rendered timeouts, proxy and SSL settings of a connection pool. Without a proxy, the worker JVM's proxy and
+     * trust store system properties apply.
+     */
+    record HttpOptions(
+        Duration connectTimeout,
+        Duration readTimeout,
+        Proxy.Type proxyType,
+        String proxyAddress,
+        int proxyPort,
+        String proxyUsername,
+        String proxyPassword,
+        boolean trustAllCertificates
+    ) {
+        static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+        static final Duration DEFAULT_READ_TIMEOUT = Duration.ofSeconds(60);
+        static final HttpOptions DEFAULTS = new HttpOptions(DEFAULT_CONNECT_TIMEOUT, DEFAULT_READ_TIMEOUT, Proxy.Type.DIRECT, null, 0, null, null, false);
+
+        static HttpOptions render(RunContext runContext, HttpConfiguration configuration) throws IllegalVariableEvaluationException {
+            if (configuration == null) {
+                return DEFAULTS;
+            }
+
+            Duration connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+            Duration readTimeout = DEFAULT_READ_TIMEOUT;
+            if (configuration.getTimeout() != null) {
+                connectTimeout = runContext.render(configuration.getTimeout().getConnectTimeout()).as(Duration.class).orElse(DEFAULT_CONNECT_TIMEOUT);
+                readTimeout = runContext.render(configuration.getTimeout().getReadIdleTimeout()).as(Duration.class).orElse(DEFAULT_READ_TIMEOUT);
+            }
+
+            Proxy.Type proxyType = Proxy.Type.DIRECT;
+            String proxyAddress = null;
+            int proxyPort = 0;
+            String proxyUsername = null;
+            String proxyPassword = null;
+            if (configuration.getProxy() != null) {
+                proxyType = runContext.render(configuration.getProxy().getType()).as(Proxy.Type.class).orElse(Proxy.Type.DIRECT);
+                if (proxyType != Proxy.Type.DIRECT) {
+                    proxyAddress = runContext.render(configuration.getProxy().getAddress()).as(String.class).orElse(null);
+                    Integer port = runContext.render(configuration.getProxy().getPort()).as(Integer.class).orElse(null);
+                    if (proxyAddress == null || port == null) {
+                        throw new IllegalArgumentException("A proxy address and port are required for a " + proxyType + " proxy");
+                    }
+                    proxyPort = port;
+                    proxyUsername = runContext.render(configuration.getProxy().getUsername()).as(String.class).orElse(null);
+                    proxyPassword = runContext.render(configuration.getProxy().getPassword()).as(String.class).orElse(null);
+                }
+            }
+
+            boolean trustAllCertificates = configuration.getSsl() != null
+                && runContext.render(configuration.getSsl().getInsecureTrustAllCertificates()).as(Boolean.class).orElse(false);
+
+            return new HttpOptions(connectTimeout, readTimeout, proxyType, proxyAddress, proxyPort, proxyUsername, proxyPassword, trustAllCertificates);
+        }
+    }
+
+    /**
+     * A response, the buffered body of a failed streamed response, whether it required opening a new connection,
+     * and how many body bytes were read.
+     */
+    record Exchange<T>(HttpResponse<T> response, String errorBody, boolean newConnection, long bytesReceived) {
+    }
+
+    /**
+     * Counts the body bytes consumed by a {@link BodyReader}.
+     */
+    private static class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+}
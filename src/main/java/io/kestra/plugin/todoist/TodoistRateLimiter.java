@@ -0,0 +1,80 @@
+package io.kestra.plugin.todoist;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Token bucket shared by every Todoist call made with the same API token in the worker JVM.
+ * <p>
+ * Callers reserve a permit and sleep outside the lock until it is due, so parallel branches of a flow
+ * queue up behind the same per-user budget instead of all hitting Todoist's quota at once. A 429 or 503
+ * pauses the whole bucket so other callers back off too.
+ */
+final class TodoistRateLimiter {
+    private static final Map<String, TodoistRateLimiter> LIMITERS = new ConcurrentHashMap<>();
+
+    private double permitsPerNano;
+    private double burst;
+    private double permits;
+    private long lastRefill;
+    private long pausedUntil;
+
+    private TodoistRateLimiter(int requestsPerMinute, int burst) {
+        this.configure(requestsPerMinute, burst);
+        this.permits = this.burst;
+        this.lastRefill = System.nanoTime();
+        this.pausedUntil = lastRefill;
+    }
+
+    /**
+     * Returns the limiter for this token; the latest budget and burst given for a token win.
+     */
+    static TodoistRateLimiter of(String token, int requestsPerMinute, int burst) {
+        TodoistRateLimiter limiter = LIMITERS.computeIfAbsent(TodoistHttpClient.hash(token), k -> new TodoistRateLimiter(requestsPerMinute, burst));
+        limiter.configure(requestsPerMinute, burst);
+        return limiter;
+    }
+
+    /**
+     * Blocks until a request may be sent and returns how long the caller waited.
+     */
+    Duration acquire() throws InterruptedException {
+        long waitNanos;
+
+        synchronized (this) {
+            long now = System.nanoTime();
+            refill(now);
+
+            // Reserving may leave the bucket in debt; the debt is what this caller has to wait for
+            permits -= 1;
+            long debtNanos = permits >= 0 ? 0 : (long) Math.ceil(-permits / permitsPerNano);
+            waitNanos = Math.max(debtNanos, pausedUntil - now);
+        }
+
+        if (waitNanos <= 0) {
+            return Duration.ZERO;
+        }
+
+        Duration wait = Duration.ofNanos(waitNanos);
+        Thread.sleep(wait);
+        return wait;
+    }
+
+    /**
+     * Holds every caller of this token back for the given delay, e.g. after a 429.
+     */
+    synchronized void pause(Duration delay) {
+        pausedUntil = Math.max(pausedUntil, System.nanoTime() + delay.toNanos());
+    }
+
+    private synchronized void configure(int requestsPerMinute, int burst) {
+        this.permitsPerNano = Math.max(1, requestsPerMinute) / (double) Duration.ofMinutes(1).toNanos();
+        this.burst = Math.max(1, burst);
+    }
+
+    private void refill(long now) {
+        permits = Math.min(burst, permits + (now - lastRefill) * permitsPerNano);
+        lastRefill = now;
+    }
+}
@@ -0,0 +1,183 @@
+package io.kestra.plugin.todoist;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import io.kestra.core.http.HttpRequest;
+import io.kestra.core.http.HttpResponse;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.core.storages.kv.KVMetadata;
+import io.kestra.core.storages.kv.KVStore;
+import io.kestra.core.storages.kv.KVValue;
+import io.kestra.core.storages.kv.KVValueAndMetadata;
+
+/**
+ * Incremental reads of Todoist items through `/sync`, checkpointed with a `sync_token` kept in the namespace KV store.
+ * <p>
+ * Shared by {@link SyncTasks} and the polling trigger, which do not share a base class.
+ */
+final class TodoistSync {
+    static final String FULL_SYNC_TOKEN = "*";
+
+    private TodoistSync() {
+    }
+
+    @FunctionalInterface
+    interface Sender {
+        HttpResponse<String> send(HttpRequest request) throws Exception;
+    }
+
+    /**
+     * Checkpoint kept between runs: the last `sync_token`, the watermark of the items seen so far, and events not yet
+     * handed over.
+     * <p>
+     * The watermark is the latest `added_at`, `updated_at` or `completed_at` Todoist reported for any item up to this
+     * checkpoint. Only timestamps set by Todoist are compared with it, so a skewed worker clock cannot turn new items
+     * into updates or the reverse.
+     */
+    record State(String syncToken, Instant watermark, List<Map<String, Object>> pending) {
+        State(String syncToken, Instant watermark) {
+            this(syncToken, watermark, List.of());
+        }
+
+        static State initial() {
+            return new State(FULL_SYNC_TOKEN, null);
+        }
+    }
+
+    /**
+     * Items returned by one sync call, split by what happened to them since the previous checkpoint.
+     */
+    record Delta(
+        String syncToken,
+        Instant watermark,
+        boolean fullSync,
+        List<Map<String, Object>> added,
+        List<Map<String, Object>> updated,
+        List<Map<String, Object>> completed,
+        List<Map<String, Object>> deleted
+    ) {
+        int size() {
+            return added.size() + updated.size() + completed.size() + deleted.size();
+        }
+    }
+
+    /**
+     * Builds a KV key unique to the flow and task (or trigger) id, restricted to the characters allowed in KV keys.
+     */
+    static String defaultStateKey(RunContext runContext, String id) {
+        var flowInfo = runContext.flowInfo();
+        String raw = "todoist_sync_" + flowInfo.namespace() + "_" + flowInfo.id() + "_" + id;
+        return raw.replaceAll("[^a-zA-Z0-9._-]", "_");
+    }
+
+    static State loadState(RunContext runContext, String key) throws Exception {
+        KVStore kvStore = runContext.namespaceKv(runContext.flowInfo().namespace());
+        Optional<KVValue> value = kvStore.getValue(key);
+
+        if (value.isEmpty() || !(value.get().value() instanceof Map<?, ?> stored) || stored.get("syncToken") == null) {
+            return State.initial();
+        }
+
+        // Checkpoints saved before the watermark existed only have the worker time of their sync
+        Object watermark = stored.get("watermark") != null ? stored.get("watermark") : stored.get("syncedAt");
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> pending = stored.get("pending") instanceof List<?> list ? (List<Map<String, Object>>) list : List.of();
+
+        return new State(stored.get("syncToken").toString(), watermark != null ? Instant.parse(watermark.toString()) : null, pending);
+    }
+
+    static void saveState(RunContext runContext, String key, State state) throws Exception {
+        Map<String, Object> stored = new LinkedHashMap<>();
+        stored.put("syncToken", state.syncToken());
+        stored.put("watermark", state.watermark() != null ? state.watermark().toString() : null);
+        if (!state.pending().isEmpty()) {
+            stored.put("pending", state.pending());
+        }
+
+        KVStore kvStore = runContext.namespaceKv(runContext.flowInfo().namespace());
+        kvStore.put(key, new KVValueAndMetadata(new KVMetadata("Todoist sync checkpoint", (Duration) null), stored));
+    }
+
+    /**
+     * Fetches items changed since the given checkpoint. An item is added when Todoist created it after the checkpoint's
+     * watermark; without a watermark, e.g. after a full sync of an empty workspace, every item is new.
+     */
+    @SuppressWarnings("unchecked")
+    static Delta fetchItems(Sender sender, String baseUrl, String token, State state) throws Exception {
+        Map<String, Object> requestBody = new LinkedHashMap<>();
+        requestBody.put("sync_token", state.syncToken());
+        requestBody.put("resource_types", List.of("items"));
+
+        HttpRequest request = AbstractTodoistTask.requestBuilder(token, baseUrl + "/sync")
+            .method("POST")
+            .body(HttpRequest.StringRequestBody.builder().content(JacksonMapper.ofJson().writeValueAsString(requestBody)).build())
+            .build();
+
+        HttpResponse<String> response = sender.send(request);
+
+        if (response.getStatus().getCode() >= 400) {
+            throw new Exception("Failed to sync tasks: " + response.getStatus().getCode() + " - " + response.getBody());
+        }
+
+        Map<String, Object> responseMap = JacksonMapper.ofJson().readValue(response.getBody(), Map.class);
+        List<Map<String, Object>> items = (List<Map<String, Object>>) responseMap.getOrDefault("items", List.of());
+        boolean fullSync = Boolean.TRUE.equals(responseMap.get("full_sync"));
+
+        List<Map<String, Object>> added = new ArrayList<>();
+        List<Map<String, Object>> updated = new ArrayList<>();
+        List<Map<String, Object>> completed = new ArrayList<>();
+        List<Map<String, Object>> deleted = new ArrayList<>();
+
+        Instant watermark = state.watermark();
+        for (Map<String, Object> item : items) {
+            Instant addedAt = timestamp(item, "added_at");
+            boolean isNew = fullSync || state.watermark() == null || (addedAt != null && addedAt.isAfter(state.watermark()));
+
+            for (String field : List.of("added_at", "updated_at", "completed_at")) {
+                Instant at = timestamp(item, field);
+                if (at != null && (watermark == null || at.isAfter(watermark))) {
+                    watermark = at;
+                }
+            }
+
+            if (Boolean.TRUE.equals(item.get("is_deleted"))) {
+                deleted.add(item);
+            } else if (Boolean.TRUE.equals(item.get("checked"))) {
+                completed.add(item);
+            } else if (isNew) {
+                added.add(item);
+            } else {
+                updated.add(item);
+            }
+        }
+
+        Object syncToken = responseMap.get("sync_token");
+        if (syncToken == null) {
+            throw new Exception("Todoist sync response did not contain a sync_token");
+        }
+
+        return new Delta(syncToken.toString(), watermark, fullSync, added, updated, completed, deleted);
+    }
+
+    private static Instant timestamp(Map<String, Object> item, String field) {
+        Object value = item.get(field);
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return OffsetDateTime.parse(value.toString()).toInstant();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package io.kestra.plugin.todoist;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+
+import io.kestra.core.http.client.configurations.HttpConfiguration;
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.conditions.ConditionContext;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.triggers.AbstractTrigger;
+import io.kestra.core.models.triggers.PollingTriggerInterface;
+import io.kestra.core.models.triggers.TriggerContext;
+import io.kestra.core.models.triggers.TriggerOutput;
+import io.kestra.core.models.triggers.TriggerService;
+import io.kestra.core.runners.RunContext;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import io.kestra.core.models.annotations.PluginProperty;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Trigger on new or changed Todoist tasks",
+    description = "Polls `/sync` incrementally and starts an execution only when tasks were added, updated, completed, or deleted since the previous poll. The first evaluation only records a baseline checkpoint. Events beyond `maxEvents` are kept for the next evaluations."
+)
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            title = "Start a flow when tasks are created or completed",
+            code = """
+                id: todoist_task_changes
+                namespace: company.team
+
+                tasks:
+                  - id: log_events
+                    type: io.kestra.plugin.core.log.Log
+                    message: "{{ trigger.size }} events: {{ trigger.events }}"
+
+                triggers:
+                  - id: task_changes
+                    type: io.kestra.plugin.todoist.Trigger
+                    apiToken: "{{ secret('TODOIST_API_TOKEN') }}"
+                    interval: PT1M
+                    eventTypes:
+                      - ADDED
+                      - COMPLETED
+                """
+        ),
+        @Example(
+            full = true,
+            title = "Start one execution per changed task",
+            code = """
+                id: todoist_task_change_each
+                namespace: company.team
+
+                tasks:
+                  - id: log_event
+                    type: io.kestra.plugin.core.log.Log
+                    message: "{{ trigger.events[0].type }} {{ trigger.events[0].task.content }}"
+
+                triggers:
+                  - id: task_change
+                    type: io.kestra.plugin.todoist.Trigger
+                    apiToken: "{{ secret('TODOIST_API_TOKEN') }}"
+                    interval: PT30S
+                    maxEvents: 1
+                """
+        )
+    }
+)
+public class Trigger extends AbstractTrigger implements PollingTriggerInterface, TriggerOutput<Trigger.Output> {
+
+    @Schema(
+        title = "Provide Todoist API token",
+        description = "Personal API token sent as Bearer auth to Todoist API v1. Keep it in a Kestra Secret."
+    )
+    @NotNull
+    @ToString.Exclude
+    @PluginProperty(secret = true, group = "main")
+    private Property<String> apiToken;
+
+    @Schema(
+        title = "Polling interval",
+        description = "Time between two `/sync` polls; default PT1M"
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Duration interval = Duration.ofSeconds(60);
+
+    @Schema(
+        title = "Event types",
+        description = "Changes that start an execution; default ADDED, UPDATED and COMPLETED"
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<List<EventType>> eventTypes = Property.ofValue(List.of(EventType.ADDED, EventType.UPDATED, EventType.COMPLETED));
+
+    @Schema(
+        title = "Maximum events per execution",
+        description = "Events are batched into one execution up to this size; set to 1 for one execution per event. Default 100"
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Integer> maxEvents = Property.ofValue(100);
+
+    @Schema(
+        title = "Maximum pending events",
+        description = "Events of one poll beyond `maxEvents` are kept in the KV store for the next evaluations, up to this many. A poll returning more fails without moving the checkpoint, so no event is lost; raise `maxEvents` or this limit to get past it. Default 10000"
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Integer> maxPendingEvents = Property.ofValue(10_000);
+
+    @Schema(
+        title = "Requests per minute",
+        description = "Sustained request budget shared by every Todoist call made with the same API token on a worker; default 60"
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Integer> rateLimit = Property.ofValue(AbstractTodoistTask.ClientOptions.DEFAULTS.rateLimit());
+
+    @Schema(
+        title = "Request burst",
+        description = "Number of requests that may be sent back to back before the per-minute budget applies; default 60"
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Integer> rateLimitBurst = Property.ofValue(AbstractTodoistTask.ClientOptions.DEFAULTS.rateLimitBurst());
+
+    @Schema(
+        title = "Maximum throttling retries",
+        description = "How many times a request answered with 429 or 503 is retried, honouring `Retry-After` or a jittered exponential backoff; default 5"
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Integer> maxRetries = Property.ofValue(AbstractTodoistTask.ClientOptions.DEFAULTS.maxRetries());
+
+    @Schema(
+        title = "HTTP client options",
+        description = "Connect and read timeouts, proxy, and SSL settings of the connection pool; timeouts default to PT10S to connect and PT60S without data. Without a proxy, the worker JVM's proxy and trust store settings apply."
+    )
+    @PluginProperty(group = "connection")
+    private HttpConfiguration options;
+
+    @Schema(
+        title = "API base URL",
+        description = "Root of the Todoist API v1, e.g., to go through a proxy or to point tests at a local stand-in; default https://api.todoist.com/api/v1"
+    )
+    @Builder.Default
+    @PluginProperty(group = "connection")
+    private Property<String> baseUrl = Property.ofValue(AbstractTodoistTask.BASE_URL);
+
+    @Schema(
+        title = "State key",
+        description = "KV store key holding the sync checkpoint; defaults to a key derived from the namespace, flow id and trigger id"
+    )
+    @PluginProperty(group = "advanced")
+    private Property<String> stateKey;
+
+    @Override
+    public Optional<Execution> evaluate(ConditionContext conditionContext, TriggerContext context) throws Exception {
+        RunContext runContext = conditionContext.getRunContext();
+        Logger logger = runContext.logger();
+
+        String rToken = runContext.render(apiToken).as(String.class).orElseThrow();
+        List<EventType> rEventTypes = runContext.render(eventTypes).asList(EventType.class);
+        int rMaxEvents = Math.max(1, runContext.render(maxEvents).as(Integer.class).orElse(100));
+        int rMaxPendingEvents = Math.max(0, runContext.render(maxPendingEvents).as(Integer.class).orElse(10_000));
+        AbstractTodoistTask.ClientOptions defaults = AbstractTodoistTask.ClientOptions.DEFAULTS;
+        AbstractTodoistTask.ClientOptions rClientOptions = new AbstractTodoistTask.ClientOptions(
+            defaults.maxConnections(),
+            defaults.idleConnectionTimeout(),
+            runContext.render(rateLimit).as(Integer.class).orElse(defaults.rateLimit()),
+            runContext.render(rateLimitBurst).as(Integer.class).orElse(defaults.rateLimitBurst()),
+            runContext.render(maxRetries).as(Integer.class).orElse(defaults.maxRetries()),
+            TodoistHttpClient.HttpOptions.render(runContext, options)
+        );
+        String rBaseUrl = runContext.render(baseUrl).as(String.class).orElse(AbstractTodoistTask.BASE_URL);
+        if (rBaseUrl.endsWith("/")) {
+            rBaseUrl = rBaseUrl.substring(0, rBaseUrl.length() - 1);
+        }
+        String rStateKey = runContext.render(stateKey).as(String.class).orElse(TodoistSync.defaultStateKey(runContext, this.getId()));
+
+        TodoistSync.State state = TodoistSync.loadState(runContext, rStateKey);
+        List<Map<String, Object>> events = new ArrayList<>(state.pending());
+        String syncToken = state.syncToken();
+        Instant watermark = state.watermark();
+
+        // Drain pending events first so an evaluation never exceeds maxEvents
+        if (events.size() < rMaxEvents) {
+            TodoistSync.Delta delta = TodoistSync.fetchItems(
+                request -> AbstractTodoistTask.send(runContext, rToken, rClientOptions, request),
+                rBaseUrl,
+                rToken,
+                state
+            );
+
+            syncToken = delta.syncToken();
+            watermark = delta.watermark();
+
+            if (delta.fullSync()) {
+                logger.info("Recorded Todoist sync baseline, changes will trigger from the next evaluation");
+            } else {
+                addEvents(events, EventType.ADDED, delta.added(), rEventTypes);
+                addEvents(events, EventType.UPDATED, delta.updated(), rEventTypes);
+                addEvents(events, EventType.COMPLETED, delta.completed(), rEventTypes);
+                addEvents(events, EventType.DELETED, delta.deleted(), rEventTypes);
+            }
+        }
+
+        List<Map<String, Object>> batch = new ArrayList<>(events.subList(0, Math.min(rMaxEvents, events.size())));
+        List<Map<String, Object>> pending = new ArrayList<>(events.subList(batch.size(), events.size()));
+
+        // Checked before the checkpoint moves, so the same changes are read again once the limits are raised
+        if (pending.size() > rMaxPendingEvents) {
+            throw new IllegalStateException(
+                "Todoist returned " + events.size() + " task events, more than maxEvents (" + rMaxEvents + ") plus maxPendingEvents (" + rMaxPendingEvents + "); raise one of them to resume"
+            );
+        }
+
+        TodoistSync.saveState(runContext, rStateKey, new TodoistSync.State(syncToken, watermark, pending));
+
+        if (batch.isEmpty()) {
+            return Optional.empty();
+        }
+
+        logger.info("Found {} Todoist task events{}", batch.size(), pending.isEmpty() ? "" : ", " + pending.size() + " left for next evaluations");
+
+        Output output = Output.builder()
+            .events(batch)
+            .size(batch.size())
+            .build();
+
+        return Optional.of(TriggerService.generateExecution(this, conditionContext, context, output));
+    }
+
+    private static void addEvents(List<Map<String, Object>> events, EventType type, List<Map<String, Object>> tasks, List<EventType> eventTypes) {
+        if (!eventTypes.contains(type)) {
+            return;
+        }
+
+        for (Map<String, Object> task : tasks) {
+            Map<String, Object> event = new LinkedHashMap<>();
+            event.put("type", type.name());
+            event.put("task", task);
+            events.add(event);
+        }
+    }
+
+    public enum EventType {
+        ADDED,
+        UPDATED,
+        COMPLETED,
+        DELETED
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "Events",
+            description = "Task events in the order they were observed, each with a `type` (ADDED, UPDATED, COMPLETED, DELETED) and the Todoist `task`"
+        )
+        private final List<Map<String, Object>> events;
+
+        @Schema(
+            title = "Size",
+            description = "Number of events in this execution"
+        )
+        private final Integer size;
+    }
+}
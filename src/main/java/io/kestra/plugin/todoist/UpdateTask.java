@@ -27,7 +27,7 @@ import io.kestra.core.models.annotations.PluginProperty;
 @NoArgsConstructor
 @Schema(
     title = "Update Todoist task fields",
-    description = "Updates a Todoist task via `/tasks/{id}` with new content, description, priority, or due string. At least one field is required or the task fails."
+    description = "Updates a Todoist task via `/tasks/{id}` with new content, description, priority, or due string. At least one field is required or the task fails. Sends an `X-Request-Id` derived from the execution and task run, so Kestra retries are deduplicated by Todoist."
 )
 @Plugin(
     examples = {
@@ -122,12 +122,13 @@ public class UpdateTask extends AbstractTodoistTask implements RunnableTask<Upda
 
         String jsonBody = JacksonMapper.ofJson().writeValueAsString(requestBody);
 
-        HttpRequest request = createRequestBuilder(rToken, BASE_URL + "/tasks/" + rTaskId)
+        HttpRequest request = createIdempotentRequestBuilder(runContext, rToken, baseUrl(runContext) + "/tasks/" + rTaskId, "update:" + rTaskId)
             .method("POST")
             .body(HttpRequest.StringRequestBody.builder().content(jsonBody).build())
             .build();
 
         HttpResponse<String> response = sendRequest(runContext, request);
+        TaskCache.invalidate(rToken, rTaskId);
 
         if (response.getStatus().getCode() >= 400) {
             throw new Exception("Failed to update task: " + response.getStatus().getCode() + " - " + response.getBody());
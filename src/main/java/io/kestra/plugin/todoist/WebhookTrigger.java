@@ -0,0 +1,177 @@
+package io.kestra.plugin.todoist;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.plugin.core.trigger.Webhook;
+
+import io.micronaut.http.HttpRequest;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import io.kestra.core.models.annotations.PluginProperty;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Trigger on Todoist webhook deliveries",
+    description = "Receives Todoist webhook deliveries (`item:added`, `item:completed`, ...) on Kestra's webhook endpoint `/api/v1/executions/webhook/{namespace}/{flowId}/{key}` and starts an execution per event. Each delivery is checked against the `X-Todoist-Hmac-SHA256` signature, and redelivered events are dropped using a bounded cache of recent delivery ids kept by each webserver process. Point the webhook callback URL of your Todoist app to this endpoint. The Todoist payload is available as `trigger.body`."
+)
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            title = "React to completed tasks within seconds",
+            code = """
+                id: todoist_webhook
+                namespace: company.team
+
+                tasks:
+                  - id: log_event
+                    type: io.kestra.plugin.core.log.Log
+                    message: "{{ trigger.body.event_name }}: {{ trigger.body.event_data.content }}"
+
+                triggers:
+                  - id: todoist_events
+                    type: io.kestra.plugin.todoist.WebhookTrigger
+                    key: 4wjtkzwVGBM9yKnjm3yv8r
+                    clientSecret: "<todoist-app-client-secret>"
+                    events:
+                      - "item:completed"
+                """
+        )
+    }
+)
+public class WebhookTrigger extends Webhook {
+    static final String SIGNATURE_HEADER = "X-Todoist-Hmac-SHA256";
+    static final String DELIVERY_ID_HEADER = "X-Todoist-Delivery-ID";
+
+    /**
+     * Recent delivery ids per trigger, in the memory of the webserver process evaluating the webhook; processes do not
+     * share them
+     */
+    private static final Map<String, RecentIds> RECENT_IDS = new ConcurrentHashMap<>();
+
+    @Schema(
+        title = "Todoist app client secret",
+        description = "Secret of the Todoist app that owns the webhook, used to verify the `X-Todoist-Hmac-SHA256` signature of each delivery. Kestra evaluates webhooks on the webserver without a run context, so the value cannot come from `secret()` or the KV store: it is used as is and stored in the flow source, readable by anyone allowed to read the flow."
+    )
+    @NotNull
+    @ToString.Exclude
+    @PluginProperty(secret = true, dynamic = false, group = "main")
+    private String clientSecret;
+
+    @Schema(
+        title = "Events",
+        description = "Event names that start an execution (e.g., `item:added`, `item:completed`); all events when empty"
+    )
+    @PluginProperty(dynamic = false, group = "processing")
+    private List<String> events;
+
+    @Schema(
+        title = "Deduplication cache size",
+        description = "Number of recent delivery ids remembered to drop redelivered events; default 1000. The ids are kept in the memory of the webserver process evaluating the webhook, so with several webservers behind a load balancer a redelivery reaching another process still starts an execution."
+    )
+    @Builder.Default
+    @PluginProperty(dynamic = false, group = "advanced")
+    private Integer deduplicationCacheSize = 1000;
+
+    /**
+     * Starts an execution only for a correctly signed, first delivery of a selected event; otherwise no execution is
+     * returned and Kestra answers the delivery without starting one.
+     */
+    @Override
+    public Optional<Execution> evaluate(HttpRequest<String> request, Flow flow) {
+        byte[] body = request.getBody().orElse("").getBytes(StandardCharsets.UTF_8);
+
+        if (!isSignatureValid(clientSecret.getBytes(StandardCharsets.UTF_8), body, request.getHeaders().get(SIGNATURE_HEADER))) {
+            return Optional.empty();
+        }
+
+        Map<String, Object> payload;
+        try {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> parsed = JacksonMapper.ofJson().readValue(body, Map.class);
+            payload = parsed;
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+
+        Object eventName = payload.get("event_name");
+        if (events != null && !events.isEmpty() && (eventName == null || !events.contains(eventName.toString()))) {
+            return Optional.empty();
+        }
+
+        // Todoist retries deliveries it considers failed, so a delivery id can arrive more than once
+        String deliveryId = request.getHeaders().get(DELIVERY_ID_HEADER);
+        if (deliveryId != null && !recentIds(flow).add(deliveryId)) {
+            return Optional.empty();
+        }
+
+        return super.evaluate(request, flow);
+    }
+
+    private RecentIds recentIds(Flow flow) {
+        String key = flow.getTenantId() + "_" + flow.getNamespace() + "_" + flow.getId() + "_" + this.getId();
+        int size = deduplicationCacheSize != null ? deduplicationCacheSize : 1000;
+        return RECENT_IDS.computeIfAbsent(key, k -> new RecentIds(size));
+    }
+
+    static boolean isSignatureValid(byte[] secret, byte[] body, String signature) {
+        if (signature == null) {
+            return false;
+        }
+
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret, "HmacSHA256"));
+            byte[] expected = Base64.getEncoder().encode(mac.doFinal(body));
+            return MessageDigest.isEqual(expected, signature.trim().getBytes(StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Bounded, insertion-ordered set of the most recent delivery ids.
+     */
+    static class RecentIds {
+        private final Set<String> ids;
+
+        RecentIds(int maxSize) {
+            this.ids = Collections.synchronizedSet(Collections.newSetFromMap(new LinkedHashMap<String, Boolean>(16, 0.75f, false) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                    return size() > maxSize;
+                }
+            }));
+        }
+
+        /**
+         * Returns false when the id was already seen.
+         */
+        boolean add(String id) {
+            return ids.add(id);
+        }
+    }
+}
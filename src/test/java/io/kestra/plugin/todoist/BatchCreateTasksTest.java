@@ -0,0 +1,71 @@
+package io.kestra.plugin.todoist;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
+
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@KestraTest
+class BatchCreateTasksTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    @EnabledIf(value = "isApiTokenSet", disabledReason = "TODOIST_API_TOKEN environment variable not set")
+    void testBatchCreateTasks() throws Exception {
+        String apiToken = System.getenv("TODOIST_API_TOKEN");
+        RunContext runContext = runContextFactory.of();
+
+        BatchCreateTasks task = BatchCreateTasks.builder()
+            .apiToken(Property.ofValue(apiToken))
+            .from(List.of(
+                Map.of("content", "Batch task 1"),
+                Map.of("content", "Batch task 2", "priority", 2),
+                Map.of("content", "Batch task 3", "dueString", "tomorrow")
+            ))
+            .build();
+
+        BatchCreateTasks.Output output = task.run(runContext);
+
+        assertThat(output.getCreated(), is(3L));
+        assertThat(output.getFailed(), is(0L));
+        assertThat(output.getUri(), notNullValue());
+
+        List<Object> mappings;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(runContext.storage().getFile(output.getUri())))) {
+            mappings = FileSerde.readAll(reader).collectList().block();
+        }
+        assertThat(mappings, hasSize(3));
+
+        for (Object mapping : mappings) {
+            try {
+                DeleteTask deleteTask = DeleteTask.builder()
+                    .apiToken(Property.ofValue(apiToken))
+                    .taskId(Property.ofValue(((Map<?, ?>) mapping).get("taskId").toString()))
+                    .build();
+                deleteTask.run(runContext);
+            } catch (Exception e) {
+                System.err.println("Failed to delete test task " + mapping + ": " + e.getMessage());
+            }
+        }
+    }
+
+    static boolean isApiTokenSet() {
+        String token = System.getenv("TODOIST_API_TOKEN");
+        return token != null && !token.isEmpty();
+    }
+}
@@ -0,0 +1,125 @@
+package io.kestra.plugin.todoist;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.common.FetchType;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.utils.IdUtils;
+
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@KestraTest
+class BatchGetTasksTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    @EnabledIf(value = "isApiTokenSet", disabledReason = "TODOIST_API_TOKEN environment variable not set")
+    void testBatchGetTasks() throws Exception {
+        String apiToken = System.getenv("TODOIST_API_TOKEN");
+        RunContext runContext = runContextFactory.of();
+        List<String> createdTaskIds = new ArrayList<>();
+
+        try {
+            for (int i = 1; i <= 3; i++) {
+                CreateTask createTask = CreateTask.builder()
+                    .apiToken(Property.ofValue(apiToken))
+                    .content(Property.ofValue("Batch get task " + i))
+                    .build();
+                createdTaskIds.add(createTask.run(runContext).getTaskId());
+            }
+
+            List<String> requestedIds = new ArrayList<>(createdTaskIds);
+            requestedIds.add("0");
+
+            BatchGetTasks task = BatchGetTasks.builder()
+                .apiToken(Property.ofValue(apiToken))
+                .taskIds(Property.ofValue(requestedIds))
+                .chunkSize(Property.ofValue(2))
+                .build();
+
+            BatchGetTasks.Output output = task.run(runContext);
+
+            assertThat(output.getSize(), is(3L));
+            assertThat(output.getRows().stream().map(row -> row.get("id").toString()).toList(), contains(createdTaskIds.toArray()));
+            assertThat(output.getNotFound(), contains("0"));
+        } finally {
+            for (String taskId : createdTaskIds) {
+                try {
+                    DeleteTask deleteTask = DeleteTask.builder()
+                        .apiToken(Property.ofValue(apiToken))
+                        .taskId(Property.ofValue(taskId))
+                        .build();
+                    deleteTask.run(runContext);
+                } catch (Exception e) {
+                    System.err.println("Failed to delete test task " + taskId + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    @Test
+    void testBatchGetTasksReportsMissingIds() throws Exception {
+        try (TodoistStubServer stub = new TodoistStubServer(300)) {
+            RunContext runContext = runContextFactory.of();
+
+            BatchGetTasks batchGetTasks = BatchGetTasks.builder()
+                .apiToken(Property.ofValue("stub-" + IdUtils.create()))
+                .baseUrl(Property.ofValue(stub.baseUrl()))
+                .rateLimit(Property.ofValue(100_000))
+                .taskIds(Property.ofValue(List.of("12", "250", "7", "999")))
+                .chunkSize(Property.ofValue(2))
+                .build();
+
+            BatchGetTasks.Output output = batchGetTasks.run(runContext);
+
+            assertThat(output.getRows().stream().map(task -> task.get("id")).toList(), contains("12", "250", "7"));
+            assertThat(output.getNotFound(), contains("999"));
+        }
+    }
+
+    @Test
+    void testBatchGetTasksStoresTasksInRequestedOrder() throws Exception {
+        try (TodoistStubServer stub = new TodoistStubServer(300)) {
+            RunContext runContext = runContextFactory.of();
+
+            // The stub answers each chunk in its own order, e.g. 12 before 250
+            BatchGetTasks batchGetTasks = BatchGetTasks.builder()
+                .apiToken(Property.ofValue("stub-" + IdUtils.create()))
+                .baseUrl(Property.ofValue(stub.baseUrl()))
+                .rateLimit(Property.ofValue(100_000))
+                .taskIds(Property.ofValue(List.of("250", "12", "7", "999", "40")))
+                .chunkSize(Property.ofValue(2))
+                .fetchType(Property.ofValue(FetchType.STORE))
+                .build();
+
+            BatchGetTasks.Output output = batchGetTasks.run(runContext);
+
+            assertThat(output.getSize(), is(4L));
+            assertThat(output.getNotFound(), contains("999"));
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(runContext.storage().getFile(output.getUri())))) {
+                List<Object> tasks = FileSerde.readAll(reader).collectList().block();
+                assertThat(tasks.stream().map(task -> ((Map<?, ?>) task).get("id")).toList(), contains("250", "12", "7", "40"));
+            }
+        }
+    }
+
+    static boolean isApiTokenSet() {
+        String token = System.getenv("TODOIST_API_TOKEN");
+        return token != null && !token.isEmpty();
+    }
+}
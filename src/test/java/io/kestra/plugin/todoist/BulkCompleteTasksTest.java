@@ -0,0 +1,82 @@
+package io.kestra.plugin.todoist;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
+
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@KestraTest
+class BulkCompleteTasksTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    @EnabledIf(value = "isApiTokenSet", disabledReason = "TODOIST_API_TOKEN environment variable not set")
+    void testBulkCompleteAndReopenTasks() throws Exception {
+        String apiToken = System.getenv("TODOIST_API_TOKEN");
+        RunContext runContext = runContextFactory.of();
+        List<String> createdTaskIds = new ArrayList<>();
+
+        try {
+            for (int i = 1; i <= 3; i++) {
+                CreateTask createTask = CreateTask.builder()
+                    .apiToken(Property.ofValue(apiToken))
+                    .content(Property.ofValue("Bulk complete task " + i))
+                    .build();
+                createdTaskIds.add(createTask.run(runContext).getTaskId());
+            }
+
+            BulkCompleteTasks completeTasks = BulkCompleteTasks.builder()
+                .apiToken(Property.ofValue(apiToken))
+                .taskIds(Property.ofValue(createdTaskIds))
+                .build();
+
+            AbstractBulkTaskCommand.Output completeOutput = completeTasks.run(runContext);
+
+            assertThat(completeOutput.getSucceeded(), is(3L));
+            assertThat(completeOutput.getFailed(), is(0L));
+
+            List<Object> results;
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(runContext.storage().getFile(completeOutput.getUri())))) {
+                results = FileSerde.readAll(reader).collectList().block();
+            }
+            assertThat(results, hasSize(3));
+            assertThat(((Map<?, ?>) results.getFirst()).get("status"), is("ok"));
+
+            BulkReopenTasks reopenTasks = BulkReopenTasks.builder()
+                .apiToken(Property.ofValue(apiToken))
+                .from(completeOutput.getUri().toString())
+                .build();
+
+            AbstractBulkTaskCommand.Output reopenOutput = reopenTasks.run(runContext);
+
+            assertThat(reopenOutput.getSucceeded(), is(3L));
+        } finally {
+            BulkDeleteTasks deleteTasks = BulkDeleteTasks.builder()
+                .apiToken(Property.ofValue(apiToken))
+                .taskIds(Property.ofValue(createdTaskIds))
+                .build();
+            deleteTasks.run(runContext);
+        }
+    }
+
+    static boolean isApiTokenSet() {
+        String token = System.getenv("TODOIST_API_TOKEN");
+        return token != null && !token.isEmpty();
+    }
+}
@@ -0,0 +1,51 @@
+package io.kestra.plugin.todoist;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@KestraTest
+class BulkDeleteTasksTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    @EnabledIf(value = "isApiTokenSet", disabledReason = "TODOIST_API_TOKEN environment variable not set")
+    void testBulkDeleteTasksWithUnknownId() throws Exception {
+        String apiToken = System.getenv("TODOIST_API_TOKEN");
+        RunContext runContext = runContextFactory.of();
+
+        CreateTask createTask = CreateTask.builder()
+            .apiToken(Property.ofValue(apiToken))
+            .content(Property.ofValue("Bulk delete task"))
+            .build();
+        String taskId = createTask.run(runContext).getTaskId();
+
+        BulkDeleteTasks deleteTasks = BulkDeleteTasks.builder()
+            .apiToken(Property.ofValue(apiToken))
+            .taskIds(Property.ofValue(List.of(taskId, "0")))
+            .build();
+
+        AbstractBulkTaskCommand.Output output = deleteTasks.run(runContext);
+
+        assertThat(output.getSucceeded(), is(1L));
+        assertThat(output.getFailed(), is(1L));
+        assertThat(output.getUri(), notNullValue());
+    }
+
+    static boolean isApiTokenSet() {
+        String token = System.getenv("TODOIST_API_TOKEN");
+        return token != null && !token.isEmpty();
+    }
+}
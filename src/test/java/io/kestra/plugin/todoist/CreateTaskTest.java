@@ -1,5 +1,9 @@
 package io.kestra.plugin.todoist;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledIf;
 
@@ -7,6 +11,7 @@ import io.kestra.core.junit.annotations.KestraTest;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.utils.IdUtils;
 
 import jakarta.inject.Inject;
 
@@ -36,6 +41,123 @@ class CreateTaskTest {
         assertThat(output.getTaskId(), notNullValue());
     }
 
+    @Test
+    @EnabledIf(value = "isApiTokenSet", disabledReason = "TODOIST_API_TOKEN environment variable not set")
+    void testCreateTaskWithProjectName() throws Exception {
+        String apiToken = System.getenv("TODOIST_API_TOKEN");
+        RunContext runContext = runContextFactory.of();
+
+        CreateTask task = CreateTask.builder()
+            .apiToken(Property.ofValue(apiToken))
+            .content(Property.ofValue("Test task in Inbox by name"))
+            .projectName(Property.ofValue("Inbox"))
+            .build();
+
+        CreateTask.Output output = task.run(runContext);
+
+        assertThat(output.getTaskId(), notNullValue());
+    }
+
+    @Test
+    void testRequestIdIsStableAcrossAttempts() {
+        RunContext firstAttempt = runContextFactory.of(Map.of(
+            "execution", Map.of("id", "execution-1"),
+            "taskrun", Map.of("id", "taskrun-1", "attemptsCount", 0)
+        ));
+        RunContext retry = runContextFactory.of(Map.of(
+            "execution", Map.of("id", "execution-1"),
+            "taskrun", Map.of("id", "taskrun-1", "attemptsCount", 1)
+        ));
+        RunContext otherTaskRun = runContextFactory.of(Map.of(
+            "execution", Map.of("id", "execution-1"),
+            "taskrun", Map.of("id", "taskrun-2", "attemptsCount", 0)
+        ));
+
+        String requestId = AbstractTodoistTask.requestId(firstAttempt, "create");
+
+        assertThat(AbstractTodoistTask.requestId(retry, "create"), is(requestId));
+        assertThat(AbstractTodoistTask.requestId(otherTaskRun, "create"), not(requestId));
+        assertThat(AbstractTodoistTask.requestId(firstAttempt, "update:1"), not(requestId));
+    }
+
+    @Test
+    void testCreateTaskAnswersDuplicatesLocally() throws Exception {
+        try (TodoistStubServer stub = new TodoistStubServer(10)) {
+            String apiToken = "stub-" + IdUtils.create();
+            Map<String, Object> flow = Map.of("flow", Map.of("namespace", "io.kestra.tests", "id", "todoist_dedupe"));
+
+            CreateTask.Output first = createTask(stub, apiToken, "incident-42").build().run(runContextFactory.of(flow));
+            // The new index records a sync token, then the task is created
+            assertThat(first.getDeduplicated(), is(false));
+            assertThat(stub.requests(), is(2));
+
+            CreateTask.Output duplicate = createTask(stub, apiToken, "incident-42").build().run(runContextFactory.of(flow));
+            assertThat(duplicate.getDeduplicated(), is(true));
+            assertThat(duplicate.getTaskId(), is(first.getTaskId()));
+            assertThat(stub.requests(), is(2));
+
+            CreateTask.Output other = createTask(stub, apiToken, "incident-43").build().run(runContextFactory.of(flow));
+            assertThat(other.getDeduplicated(), is(false));
+            assertThat(other.getTaskId(), not(first.getTaskId()));
+            assertThat(stub.requests(), is(3));
+        }
+    }
+
+    @Test
+    void testCreateTaskDropsKeyOnceTaskIsCompleted() throws Exception {
+        try (TodoistStubServer stub = new TodoistStubServer(10)) {
+            String apiToken = "stub-" + IdUtils.create();
+            Map<String, Object> flow = Map.of("flow", Map.of("namespace", "io.kestra.tests", "id", "todoist_dedupe_refresh"));
+
+            // A zero refresh interval makes every run ask /sync for the tasks changed since the previous one
+            CreateTask.Output first = createTask(stub, apiToken, "incident-7").dedupeRefreshInterval(Property.ofValue(Duration.ZERO)).build().run(runContextFactory.of(flow));
+            assertThat(first.getDeduplicated(), is(false));
+
+            CreateTask.Output duplicate = createTask(stub, apiToken, "incident-7").dedupeRefreshInterval(Property.ofValue(Duration.ZERO)).build().run(runContextFactory.of(flow));
+            assertThat(duplicate.getDeduplicated(), is(true));
+            assertThat(duplicate.getTaskId(), is(first.getTaskId()));
+
+            CompleteTask.builder()
+                .apiToken(Property.ofValue(apiToken))
+                .baseUrl(Property.ofValue(stub.baseUrl()))
+                .rateLimit(Property.ofValue(100_000))
+                .taskId(Property.ofValue(first.getTaskId()))
+                .build()
+                .run(runContextFactory.of(flow));
+
+            CreateTask.Output recreated = createTask(stub, apiToken, "incident-7").dedupeRefreshInterval(Property.ofValue(Duration.ZERO)).build().run(runContextFactory.of(flow));
+            assertThat(recreated.getDeduplicated(), is(false));
+            assertThat(recreated.getTaskId(), not(first.getTaskId()));
+        }
+    }
+
+    @Test
+    void testDedupeIndexKeepsKeysSavedByOtherRuns() throws Exception {
+        RunContext runContext = runContextFactory.of(Map.of("flow", Map.of("namespace", "io.kestra.tests", "id", "todoist_dedupe_merge")));
+        String key = DedupeIndex.key("stub-" + IdUtils.create(), "p1");
+        DedupeIndex.Index base = new DedupeIndex.Index("token-1", Instant.now(), Map.of("a", "1", "b", "2"));
+        DedupeIndex.save(runContext, key, base);
+
+        // Another worker adds key c, while this run's refresh drops key b and it adds key d
+        DedupeIndex.save(runContext, key, new DedupeIndex.Index("token-1", base.refreshedAt(), Map.of("a", "1", "b", "2", "c", "3")));
+        DedupeIndex.Index merged = DedupeIndex.saveMerged(runContext, key, base, new DedupeIndex.Index("token-2", Instant.now(), Map.of("a", "1", "d", "4")));
+
+        assertThat(merged.entries(), is(Map.of("a", "1", "c", "3", "d", "4")));
+        // This run's refresh did not cover key c, so the next one starts again from the older token
+        assertThat(merged.syncToken(), is("token-1"));
+        assertThat(DedupeIndex.load(runContext, key).entries(), is(merged.entries()));
+    }
+
+    private static CreateTask.CreateTaskBuilder<?, ?> createTask(TodoistStubServer stub, String apiToken, String dedupeKey) {
+        return CreateTask.builder()
+            .apiToken(Property.ofValue(apiToken))
+            .baseUrl(Property.ofValue(stub.baseUrl()))
+            .rateLimit(Property.ofValue(100_000))
+            .content(Property.ofValue("Investigate " + dedupeKey))
+            .projectId(Property.ofValue("p1"))
+            .dedupeKey(Property.ofValue(dedupeKey));
+    }
+
     static boolean isApiTokenSet() {
         String token = System.getenv("TODOIST_API_TOKEN");
         return token != null && !token.isEmpty();
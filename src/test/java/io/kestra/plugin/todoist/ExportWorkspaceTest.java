@@ -0,0 +1,53 @@
+package io.kestra.plugin.todoist;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.utils.IdUtils;
+
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+
+@KestraTest
+class ExportWorkspaceTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    void testExportWorkspaceWritesOneFilePerResourceType() throws Exception {
+        try (TodoistStubServer stub = new TodoistStubServer(250)) {
+            RunContext runContext = runContextFactory.of();
+
+            ExportWorkspace exportWorkspace = ExportWorkspace.builder()
+                .apiToken(Property.ofValue("stub-" + IdUtils.create()))
+                .baseUrl(Property.ofValue(stub.baseUrl()))
+                .resourceTypes(Property.ofValue(List.of(ExportWorkspace.ResourceType.ITEMS, ExportWorkspace.ResourceType.PROJECTS, ExportWorkspace.ResourceType.LABELS)))
+                .build();
+
+            ExportWorkspace.Output output = exportWorkspace.run(runContext);
+
+            assertThat(output.getResources().keySet(), contains("items", "projects", "labels"));
+            assertThat(output.getResources().get("items").getCount(), is(250L));
+            assertThat(output.getResources().get("projects").getCount(), is(10L));
+            assertThat(output.getResources().get("labels").getCount(), is(4L));
+            assertThat(output.getSyncToken(), notNullValue());
+            assertThat(stub.requests(), is(1));
+
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(runContext.storage().getFile(output.getResources().get("projects").getUri())))) {
+                List<Object> projects = FileSerde.readAll(reader).collectList().block();
+                assertThat(projects, hasSize(10));
+            }
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package io.kestra.plugin.todoist;
 
+import java.util.List;
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledIf;
 
@@ -49,6 +52,78 @@ class GetTaskTest {
         completeTask.run(runContext);
     }
 
+    @Test
+    @EnabledIf(value = "isApiTokenSet", disabledReason = "TODOIST_API_TOKEN environment variable not set")
+    void testGetTaskWithFields() throws Exception {
+        String apiToken = System.getenv("TODOIST_API_TOKEN");
+        RunContext runContext = runContextFactory.of();
+
+        CreateTask createTask = CreateTask.builder()
+            .apiToken(Property.ofValue(apiToken))
+            .content(Property.ofValue("Test task for GetTask fields"))
+            .dueString(Property.ofValue("tomorrow"))
+            .build();
+
+        CreateTask.Output createOutput = createTask.run(runContext);
+
+        GetTask getTask = GetTask.builder()
+            .apiToken(Property.ofValue(apiToken))
+            .taskId(Property.ofValue(createOutput.getTaskId()))
+            .fields(Property.ofValue(List.of("id", "due.date")))
+            .build();
+
+        GetTask.Output output = getTask.run(runContext);
+
+        assertThat(output.getTask().keySet(), containsInAnyOrder("id", "due"));
+        assertThat(output.getTask().get("id").toString(), is(createOutput.getTaskId()));
+        assertThat(((Map<?, ?>) output.getTask().get("due")).keySet(), contains("date"));
+
+        CompleteTask completeTask = CompleteTask.builder()
+            .apiToken(Property.ofValue(apiToken))
+            .taskId(Property.ofValue(createOutput.getTaskId()))
+            .build();
+        completeTask.run(runContext);
+    }
+
+    @Test
+    @EnabledIf(value = "isApiTokenSet", disabledReason = "TODOIST_API_TOKEN environment variable not set")
+    void testGetTaskWithCache() throws Exception {
+        String apiToken = System.getenv("TODOIST_API_TOKEN");
+        RunContext runContext = runContextFactory.of();
+
+        CreateTask createTask = CreateTask.builder()
+            .apiToken(Property.ofValue(apiToken))
+            .content(Property.ofValue("Test task for GetTask cache"))
+            .build();
+
+        CreateTask.Output createOutput = createTask.run(runContext);
+
+        GetTask getTask = GetTask.builder()
+            .apiToken(Property.ofValue(apiToken))
+            .taskId(Property.ofValue(createOutput.getTaskId()))
+            .cache(Property.ofValue(true))
+            .build();
+
+        assertThat(getTask.run(runContext).getTask().get("content"), is("Test task for GetTask cache"));
+        assertThat(getTask.run(runContext).getTask().get("content"), is("Test task for GetTask cache"));
+
+        UpdateTask updateTask = UpdateTask.builder()
+            .apiToken(Property.ofValue(apiToken))
+            .taskId(Property.ofValue(createOutput.getTaskId()))
+            .content(Property.ofValue("Updated task for GetTask cache"))
+            .build();
+        updateTask.run(runContext);
+
+        // The update invalidated the cached task
+        assertThat(getTask.run(runContext).getTask().get("content"), is("Updated task for GetTask cache"));
+
+        DeleteTask deleteTask = DeleteTask.builder()
+            .apiToken(Property.ofValue(apiToken))
+            .taskId(Property.ofValue(createOutput.getTaskId()))
+            .build();
+        deleteTask.run(runContext);
+    }
+
     static boolean isApiTokenSet() {
         String token = System.getenv("TODOIST_API_TOKEN");
         return token != null && !token.isEmpty();
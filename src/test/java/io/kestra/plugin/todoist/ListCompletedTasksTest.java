@@ -0,0 +1,166 @@
+package io.kestra.plugin.todoist;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.utils.IdUtils;
+
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@KestraTest
+class ListCompletedTasksTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    @EnabledIf(value = "isApiTokenSet", disabledReason = "TODOIST_API_TOKEN environment variable not set")
+    void testListCompletedTasks() throws Exception {
+        String apiToken = System.getenv("TODOIST_API_TOKEN");
+        RunContext runContext = runContextFactory.of();
+        String taskId = null;
+
+        try {
+            CreateTask createTask = CreateTask.builder()
+                .apiToken(Property.ofValue(apiToken))
+                .content(Property.ofValue("Completed task listing test"))
+                .build();
+            taskId = createTask.run(runContext).getTaskId();
+
+            CompleteTask completeTask = CompleteTask.builder()
+                .apiToken(Property.ofValue(apiToken))
+                .taskId(Property.ofValue(taskId))
+                .build();
+            completeTask.run(runContext);
+
+            ListCompletedTasks task = ListCompletedTasks.builder()
+                .apiToken(Property.ofValue(apiToken))
+                .since(Property.ofValue(Instant.now().minus(Duration.ofDays(3)).toString()))
+                .until(Property.ofValue(Instant.now().plus(Duration.ofMinutes(1)).toString()))
+                .window(Property.ofValue(Duration.ofDays(1)))
+                .fields(Property.ofValue(List.of("id", "completed_at")))
+                .build();
+
+            ListCompletedTasks.Output output = task.run(runContext);
+
+            assertThat(output.getSize(), greaterThanOrEqualTo(1L));
+            assertThat(output.getRows().stream().map(row -> row.get("id").toString()).toList(), hasItem(taskId));
+        } finally {
+            if (taskId != null) {
+                try {
+                    DeleteTask deleteTask = DeleteTask.builder()
+                        .apiToken(Property.ofValue(apiToken))
+                        .taskId(Property.ofValue(taskId))
+                        .build();
+                    deleteTask.run(runContext);
+                } catch (Exception e) {
+                    System.err.println("Failed to delete test task " + taskId + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    @Test
+    void testListCompletedTasksKeepsWindowOrder() throws Exception {
+        try (TodoistStubServer stub = new TodoistStubServer(500)) {
+            RunContext runContext = runContextFactory.of();
+
+            ListCompletedTasks listCompletedTasks = ListCompletedTasks.builder()
+                .apiToken(Property.ofValue("stub-" + IdUtils.create()))
+                .baseUrl(Property.ofValue(stub.baseUrl()))
+                .rateLimit(Property.ofValue(100_000))
+                .rateLimitBurst(Property.ofValue(100_000))
+                .since(Property.ofValue("2026-01-01"))
+                .until(Property.ofValue("2026-01-21"))
+                .window(Property.ofValue(Duration.ofDays(2)))
+                .parallelism(Property.ofValue(4))
+                .build();
+
+            ListCompletedTasks.Output output = listCompletedTasks.run(runContext);
+
+            // One task completed per hour: 480 tasks in 20 days, one page per 2-day window; a task completed on a
+            // boundary is returned by both neighbouring windows and kept once
+            assertThat(output.getSize(), is(480L));
+            assertThat(output.getRows().stream().map(task -> Integer.parseInt(task.get("id").toString())).toList(), is(IntStream.range(0, 480).boxed().toList()));
+            assertThat(stub.requests(), is(10));
+        }
+    }
+
+    @Test
+    void testListCompletedTasksKeepsTasksCompletedJustBeforeBoundary() throws Exception {
+        // Task n is completed half a second before hour n, so tasks 24 and 48 end the first and second day
+        try (TodoistStubServer stub = new TodoistStubServer(100).completedOffset(Duration.ofMillis(-500))) {
+            RunContext runContext = runContextFactory.of();
+
+            ListCompletedTasks listCompletedTasks = ListCompletedTasks.builder()
+                .apiToken(Property.ofValue("stub-" + IdUtils.create()))
+                .baseUrl(Property.ofValue(stub.baseUrl()))
+                .rateLimit(Property.ofValue(100_000))
+                .since(Property.ofValue("2026-01-01"))
+                .until(Property.ofValue("2026-01-03"))
+                .window(Property.ofValue(Duration.ofDays(1)))
+                .fields(Property.ofValue(List.of("id")))
+                .build();
+
+            ListCompletedTasks.Output output = listCompletedTasks.run(runContext);
+
+            assertThat(output.getRows().stream().map(task -> Integer.parseInt(task.get("id").toString())).toList(), is(IntStream.rangeClosed(1, 48).boxed().toList()));
+            assertThat(output.getRows().getFirst().keySet(), contains("id"));
+            assertThat(stub.requests(), is(2));
+        }
+    }
+
+    @Test
+    void testListCompletedTasksByDueDateKeepsTasksDueInUserTimezone() throws Exception {
+        // Due dates are ranged from midnight UTC+2: tasks 22 to 45 are due on January 2nd, which starts at
+        // 2026-01-01T22:00Z and is only returned by the first window
+        try (TodoistStubServer stub = new TodoistStubServer(72).dueZone(ZoneOffset.ofHours(2))) {
+            ListCompletedTasks.Output output = listByDueDate(stub).run(runContextFactory.of());
+
+            assertThat(output.getRows().stream().map(task -> Integer.parseInt(task.get("id").toString())).toList(), is(IntStream.range(22, 72).boxed().toList()));
+            assertThat(stub.requests(), is(3));
+        }
+    }
+
+    @Test
+    void testListCompletedTasksByDueDateReturnsBoundaryTasksOnce() throws Exception {
+        // Tasks due on January 2nd and 3rd start exactly on a window boundary and are returned by both windows
+        try (TodoistStubServer stub = new TodoistStubServer(72)) {
+            ListCompletedTasks.Output output = listByDueDate(stub).run(runContextFactory.of());
+
+            assertThat(output.getSize(), is(72L));
+            assertThat(output.getRows().stream().map(task -> Integer.parseInt(task.get("id").toString())).sorted().toList(), is(IntStream.range(0, 72).boxed().toList()));
+        }
+    }
+
+    private static ListCompletedTasks listByDueDate(TodoistStubServer stub) {
+        return ListCompletedTasks.builder()
+            .apiToken(Property.ofValue("stub-" + IdUtils.create()))
+            .baseUrl(Property.ofValue(stub.baseUrl()))
+            .rateLimit(Property.ofValue(100_000))
+            .since(Property.ofValue("2026-01-01"))
+            .until(Property.ofValue("2026-01-04"))
+            .window(Property.ofValue(Duration.ofDays(1)))
+            .dateField(Property.ofValue(ListCompletedTasks.DateField.DUE_DATE))
+            .parallelism(Property.ofValue(1))
+            .fields(Property.ofValue(List.of("id")))
+            .build();
+    }
+
+    static boolean isApiTokenSet() {
+        String token = System.getenv("TODOIST_API_TOKEN");
+        return token != null && !token.isEmpty();
+    }
+}
@@ -0,0 +1,95 @@
+package io.kestra.plugin.todoist;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryType;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.common.FetchType;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.utils.IdUtils;
+
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Lists 100k synthetic tasks from {@link TodoistStubServer} and checks the run stays within time and heap budgets.
+ * Tagged `load`, so it only runs with `./gradlew loadTest`.
+ */
+@KestraTest
+@Tag("load")
+class ListTasksLoadTest {
+    private static final int TASKS = 100_000;
+    private static final Duration TIME_BUDGET = Duration.ofSeconds(60);
+    private static final long HEAP_BUDGET_BYTES = 128L * 1024 * 1024;
+
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    void testStoreHundredThousandTasks() throws Exception {
+        try (TodoistStubServer stub = new TodoistStubServer(TASKS)) {
+            RunContext runContext = runContextFactory.of();
+
+            ListTasks listTasks = ListTasks.builder()
+                .apiToken(Property.ofValue("stub-" + IdUtils.create()))
+                .baseUrl(Property.ofValue(stub.baseUrl()))
+                .rateLimit(Property.ofValue(100_000))
+                .rateLimitBurst(Property.ofValue(100_000))
+                .limit(Property.ofValue(200))
+                .maxRows(Property.ofValue(TASKS))
+                .fetchType(Property.ofValue(FetchType.STORE))
+                .build();
+
+            System.gc();
+            long baseline = liveHeap();
+            AtomicLong peak = new AtomicLong(baseline);
+
+            // The live heap (as measured after each collection) is sampled while the task runs; tasks are streamed
+            // to storage so it should stay flat whatever the dataset size
+            Thread sampler = Thread.ofPlatform().daemon(true).start(() -> {
+                while (!Thread.currentThread().isInterrupted()) {
+                    peak.accumulateAndGet(liveHeap(), Math::max);
+                    try {
+                        Thread.sleep(20);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            });
+
+            long startedAt = System.nanoTime();
+            ListTasks.Output output;
+            try {
+                output = listTasks.run(runContext);
+            } finally {
+                sampler.interrupt();
+            }
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+            assertThat(output.getSize(), is((long) TASKS));
+            assertThat(output.getUri(), notNullValue());
+            assertThat(stub.requests(), is(TASKS / 200));
+            assertThat("Listing took " + elapsed, elapsed, lessThan(TIME_BUDGET));
+            assertThat("Live heap grew by " + (peak.get() - baseline) + " bytes", peak.get() - baseline, lessThan(HEAP_BUDGET_BYTES));
+        }
+    }
+
+    /**
+     * Heap still in use after the latest collection of each pool, i.e. what the run retains rather than its garbage
+     */
+    private static long liveHeap() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP && pool.getCollectionUsage() != null)
+            .mapToLong(pool -> pool.getCollectionUsage().getUsed())
+            .sum();
+    }
+}
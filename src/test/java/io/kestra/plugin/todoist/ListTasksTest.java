@@ -1,20 +1,35 @@
 package io.kestra.plugin.todoist;
 
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledIf;
 
+import com.github.luben.zstd.ZstdInputStream;
+
+import io.kestra.core.http.client.configurations.HttpConfiguration;
+import io.kestra.core.http.client.configurations.TimeoutConfiguration;
 import io.kestra.core.junit.annotations.KestraTest;
 import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.common.FetchType;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.core.utils.IdUtils;
 
 import jakarta.inject.Inject;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @KestraTest
 class ListTasksTest {
@@ -118,25 +133,403 @@ class ListTasksTest {
 
     @Test
     @EnabledIf(value = "isApiTokenSet", disabledReason = "TODOIST_API_TOKEN environment variable not set")
-    void testListTasksWithFilterAndProjectIdThrowsException() throws Exception {
+    void testListTasksWithOverlappingFilters() throws Exception {
         String apiToken = System.getenv("TODOIST_API_TOKEN");
         RunContext runContext = runContextFactory.of();
+        List<String> createdTaskIds = new ArrayList<>();
+
+        try {
+            CreateTask createTask = CreateTask.builder()
+                .apiToken(Property.ofValue(apiToken))
+                .content(Property.ofValue("Test task for overlapping filters"))
+                .dueString(Property.ofValue("today"))
+                .build();
+            createdTaskIds.add(createTask.run(runContext).getTaskId());
+
+            // Both filters match the task, it must only be returned once
+            ListTasks listTask = ListTasks.builder()
+                .apiToken(Property.ofValue(apiToken))
+                .filters(Property.ofValue(List.of("today", "today | overdue")))
+                .build();
+            ListTasks.Output output = listTask.run(runContext);
+
+            long matches = output.getRows().stream()
+                .filter(task -> createdTaskIds.contains(task.get("id").toString()))
+                .count();
+            assertThat(matches, is(1L));
+            assertThat(output.getRows().getFirst().get("source"), notNullValue());
+            assertThat(output.getSize(), is((long) output.getRows().size()));
+        } finally {
+            for (String taskId : createdTaskIds) {
+                try {
+                    DeleteTask deleteTask = DeleteTask.builder()
+                        .apiToken(Property.ofValue(apiToken))
+                        .taskId(Property.ofValue(taskId))
+                        .build();
+                    deleteTask.run(runContext);
+                } catch (Exception e) {
+                    System.err.println("Failed to delete test task " + taskId + ": " + e.getMessage());
+                }
+            }
+        }
+    }
 
-        ListTasks listTask = ListTasks.builder()
-            .apiToken(Property.ofValue(apiToken))
-            .filter(Property.ofValue("today"))
-            .projectId(Property.ofValue("123456"))
-            .build();
+    @Test
+    @EnabledIf(value = "isApiTokenSet", disabledReason = "TODOIST_API_TOKEN environment variable not set")
+    void testListTasksWithMaxRowsAndFetchOne() throws Exception {
+        String apiToken = System.getenv("TODOIST_API_TOKEN");
+        RunContext runContext = runContextFactory.of();
+        List<String> createdTaskIds = new ArrayList<>();
 
         try {
-            listTask.run(runContext);
-            // If we get here, the test should fail
-            assertThat("Expected IllegalArgumentException to be thrown", false);
-        } catch (IllegalArgumentException e) {
-            assertThat(e.getMessage(), containsString("Cannot use both 'filter' and 'projectId'"));
+            for (int i = 1; i <= 3; i++) {
+                CreateTask createTask = CreateTask.builder()
+                    .apiToken(Property.ofValue(apiToken))
+                    .content(Property.ofValue("Test capped task " + i))
+                    .build();
+                createdTaskIds.add(createTask.run(runContext).getTaskId());
+            }
+
+            ListTasks cappedTask = ListTasks.builder()
+                .apiToken(Property.ofValue(apiToken))
+                .limit(Property.ofValue(1))
+                .maxRows(Property.ofValue(2))
+                .build();
+            ListTasks.Output cappedOutput = cappedTask.run(runContext);
+
+            assertThat(cappedOutput.getSize(), is(2L));
+            assertThat(cappedOutput.getRows(), hasSize(2));
+
+            ListTasks firstTask = ListTasks.builder()
+                .apiToken(Property.ofValue(apiToken))
+                .fetchType(Property.ofValue(FetchType.FETCH_ONE))
+                .build();
+            ListTasks.Output firstOutput = firstTask.run(runContext);
+
+            assertThat(firstOutput.getSize(), is(1L));
+            assertThat(firstOutput.getRow(), notNullValue());
+        } finally {
+            for (String taskId : createdTaskIds) {
+                try {
+                    DeleteTask deleteTask = DeleteTask.builder()
+                        .apiToken(Property.ofValue(apiToken))
+                        .taskId(Property.ofValue(taskId))
+                        .build();
+                    deleteTask.run(runContext);
+                } catch (Exception e) {
+                    System.err.println("Failed to delete test task " + taskId + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    @Test
+    @EnabledIf(value = "isApiTokenSet", disabledReason = "TODOIST_API_TOKEN environment variable not set")
+    void testListTasksWithFilterAndProjectId() throws Exception {
+        String apiToken = System.getenv("TODOIST_API_TOKEN");
+        RunContext runContext = runContextFactory.of();
+        List<String> createdTaskIds = new ArrayList<>();
+
+        try {
+            CreateTask dueTask = CreateTask.builder()
+                .apiToken(Property.ofValue(apiToken))
+                .content(Property.ofValue("Test planned task due today"))
+                .priority(Property.ofValue(1))
+                .dueString(Property.ofValue("today"))
+                .build();
+            CreateTask.Output dueOutput = dueTask.run(runContext);
+            createdTaskIds.add(dueOutput.getTaskId());
+
+            CreateTask undatedTask = CreateTask.builder()
+                .apiToken(Property.ofValue(apiToken))
+                .content(Property.ofValue("Test planned task without date"))
+                .build();
+            createdTaskIds.add(undatedTask.run(runContext).getTaskId());
+
+            GetTask getTask = GetTask.builder()
+                .apiToken(Property.ofValue(apiToken))
+                .taskId(Property.ofValue(dueOutput.getTaskId()))
+                .build();
+            String projectId = getTask.run(runContext).getTask().get("project_id").toString();
+
+            ListTasks listTask = ListTasks.builder()
+                .apiToken(Property.ofValue(apiToken))
+                .filter(Property.ofValue("today"))
+                .projectId(Property.ofValue(projectId))
+                .build();
+            ListTasks.Output output = listTask.run(runContext);
+
+            List<String> ids = output.getRows().stream().map(task -> task.get("id").toString()).toList();
+            assertThat(ids, hasItem(createdTaskIds.get(0)));
+            assertThat(ids, not(hasItem(createdTaskIds.get(1))));
+            assertThat(output.getRows().stream().allMatch(task -> projectId.equals(task.get("project_id").toString())), is(true));
+        } finally {
+            for (String taskId : createdTaskIds) {
+                try {
+                    DeleteTask deleteTask = DeleteTask.builder()
+                        .apiToken(Property.ofValue(apiToken))
+                        .taskId(Property.ofValue(taskId))
+                        .build();
+                    deleteTask.run(runContext);
+                } catch (Exception e) {
+                    System.err.println("Failed to delete test task " + taskId + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    @Test
+    void testListTasksPaginatesAllPages() throws Exception {
+        try (TodoistStubServer stub = new TodoistStubServer(1234)) {
+            RunContext runContext = runContextFactory.of();
+
+            ListTasks.Output output = listTasks(stub).build().run(runContext);
+
+            assertThat(output.getSize(), is(1234L));
+            assertThat(output.getRows().getFirst().get("id"), is("0"));
+            assertThat(output.getRows().getLast().get("id"), is("1233"));
+            // 50 tasks per page by default
+            assertThat(stub.requests(), is(25));
+        }
+    }
+
+    @Test
+    void testListTasksStopsAtMaxRows() throws Exception {
+        try (TodoistStubServer stub = new TodoistStubServer(1000)) {
+            RunContext runContext = runContextFactory.of();
+
+            ListTasks.Output output = listTasks(stub)
+                .limit(Property.ofValue(40))
+                .maxRows(Property.ofValue(100))
+                .build()
+                .run(runContext);
+
+            assertThat(output.getSize(), is(100L));
+            assertThat(stub.requests(), is(3));
+        }
+    }
+
+    @Test
+    void testListTasksFetchOneRequestsSinglePage() throws Exception {
+        try (TodoistStubServer stub = new TodoistStubServer(1000)) {
+            RunContext runContext = runContextFactory.of();
+
+            ListTasks.Output output = listTasks(stub)
+                .fetchType(Property.ofValue(FetchType.FETCH_ONE))
+                .build()
+                .run(runContext);
+
+            assertThat(output.getSize(), is(1L));
+            assertThat(output.getRow().get("id"), is("0"));
+            assertThat(stub.requests(), is(1));
+        }
+    }
+
+    @Test
+    void testListTasksReusesPooledConnection() throws Exception {
+        try (TodoistStubServer stub = new TodoistStubServer(500)) {
+            RunContext runContext = runContextFactory.of();
+
+            ListTasks.Output output = listTasks(stub).build().run(runContext);
+
+            assertThat(output.getSize(), is(500L));
+            assertThat(stub.requests(), is(10));
+            // Pages are read one after the other, so the first connection serves every request
+            assertThat(metric(runContext, "connections.opened"), is(1.0));
+            assertThat(metric(runContext, "connections.reused"), is(9.0));
+        }
+    }
+
+    @Test
+    void testListTasksTimesOutOnSilentServer() throws Exception {
+        try (TodoistStubServer stub = new TodoistStubServer(10, Duration.ofSeconds(5), 0)) {
+            RunContext runContext = runContextFactory.of();
+
+            ListTasks listTasks = listTasks(stub)
+                .options(HttpConfiguration.builder()
+                    .timeout(TimeoutConfiguration.builder().readIdleTimeout(Property.ofValue(Duration.ofMillis(200))).build())
+                    .build())
+                .maxRetries(Property.ofValue(0))
+                .build();
+
+            assertThrows(SocketTimeoutException.class, () -> listTasks.run(runContext));
+        }
+    }
+
+    @Test
+    void testListTasksPushesCriteriaIntoOneQuery() throws Exception {
+        try (TodoistStubServer stub = new TodoistStubServer(400)) {
+            RunContext runContext = runContextFactory.of();
+
+            ListTasks.Output output = listTasks(stub)
+                .projectId(Property.ofValue("p3"))
+                .priority(Property.ofValue(4))
+                .labels(Property.ofValue(List.of("label3")))
+                .fields(Property.ofValue(List.of("id", "project_id", "priority")))
+                .build()
+                .run(runContext);
+
+            assertThat(output.getSize(), greaterThan(0L));
+            for (Map<String, Object> task : output.getRows()) {
+                assertThat(task.get("project_id"), is("p3"));
+                assertThat(task.get("priority"), is(4));
+                assertThat(task.keySet(), containsInAnyOrder("id", "project_id", "priority"));
+            }
+        }
+    }
+
+    @Test
+    void testListTasksRetriesThrottledRequests() throws Exception {
+        try (TodoistStubServer stub = new TodoistStubServer(500, Duration.ZERO, 3)) {
+            RunContext runContext = runContextFactory.of();
+
+            ListTasks.Output output = listTasks(stub)
+                .limit(Property.ofValue(100))
+                .maxRows(Property.ofValue(500))
+                .build()
+                .run(runContext);
+
+            assertThat(output.getSize(), is(500L));
+            assertThat(stub.throttled(), greaterThan(0));
         }
     }
 
+    @Test
+    void testListTasksFailsOnRejectedQuery() throws Exception {
+        try (TodoistStubServer stub = new TodoistStubServer(10)) {
+            RunContext runContext = runContextFactory.of();
+
+            ListTasks listTasks = listTasks(stub)
+                .filter(Property.ofValue("unsupported term"))
+                .build();
+
+            Exception exception = assertThrows(Exception.class, () -> listTasks.run(runContext));
+            assertThat(exception.getMessage(), containsString("Failed to list tasks: 400"));
+        }
+    }
+
+    @Test
+    void testListTasksResolvesNamesOncePerTtl() throws Exception {
+        try (TodoistStubServer stub = new TodoistStubServer(400)) {
+            String apiToken = "stub-" + IdUtils.create();
+
+            for (int run = 0; run < 3; run++) {
+                ListTasks.Output output = ListTasks.builder()
+                    .apiToken(Property.ofValue(apiToken))
+                    .baseUrl(Property.ofValue(stub.baseUrl()))
+                    .rateLimit(Property.ofValue(100_000))
+                    .projectName(Property.ofValue("Project 3"))
+                    .sectionName(Property.ofValue("Section 3"))
+                    .build()
+                    .run(runContextFactory.of());
+
+                assertThat(output.getSize(), is(40L));
+                output.getRows().forEach(task -> assertThat(task.get("section_id"), is("s3")));
+            }
+
+            // /projects and /sections once, then one page per run
+            assertThat(stub.requests(), is(5));
+        }
+    }
+
+    @Test
+    void testListTasksResolvesNamesPerBaseUrl() throws Exception {
+        try (TodoistStubServer first = new TodoistStubServer(400); TodoistStubServer second = new TodoistStubServer(400)) {
+            String apiToken = "stub-" + IdUtils.create();
+
+            for (TodoistStubServer stub : List.of(first, second)) {
+                ListTasks.Output output = ListTasks.builder()
+                    .apiToken(Property.ofValue(apiToken))
+                    .baseUrl(Property.ofValue(stub.baseUrl() + "/"))
+                    .rateLimit(Property.ofValue(100_000))
+                    .projectName(Property.ofValue("Project 3"))
+                    .build()
+                    .run(runContextFactory.of());
+
+                assertThat(output.getSize(), is(40L));
+            }
+
+            // The same token against another server loads that server's names instead of reusing the first ones
+            assertThat(first.requests(), is(3));
+            assertThat(second.requests(), is(3));
+        }
+    }
+
+    @Test
+    void testListTasksRejectsUnknownName() throws Exception {
+        try (TodoistStubServer stub = new TodoistStubServer(10)) {
+            RunContext runContext = runContextFactory.of();
+
+            ListTasks listTasks = listTasks(stub)
+                .projectName(Property.ofValue("Missing project"))
+                .build();
+
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> listTasks.run(runContext));
+            assertThat(exception.getMessage(), containsString("No Todoist project named 'Missing project'"));
+            // The miss reloads the names once before failing
+            assertThat(stub.requests(), is(4));
+        }
+    }
+
+    @Test
+    void testListTasksStoresCompressedJsonLines() throws Exception {
+        try (TodoistStubServer stub = new TodoistStubServer(300)) {
+            RunContext runContext = runContextFactory.of();
+
+            ListTasks.Output output = listTasks(stub)
+                .fetchType(Property.ofValue(FetchType.STORE))
+                .storeFormat(Property.ofValue(ListTasks.StoreFormat.JSONL))
+                .storeCodec(Property.ofValue(ListTasks.StoreCodec.GZIP))
+                .build()
+                .run(runContext);
+
+            assertThat(output.getUri().getPath(), endsWith(".jsonl.gz"));
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(new GZIPInputStream(runContext.storage().getFile(output.getUri())), StandardCharsets.UTF_8))) {
+                List<String> lines = reader.lines().toList();
+                assertThat(lines, hasSize(300));
+                assertThat(JacksonMapper.ofJson().readValue(lines.getFirst(), Map.class).get("id"), is("0"));
+            }
+        }
+    }
+
+    @Test
+    void testListTasksStoresFlattenedCsv() throws Exception {
+        try (TodoistStubServer stub = new TodoistStubServer(20)) {
+            RunContext runContext = runContextFactory.of();
+
+            ListTasks.Output output = listTasks(stub)
+                .fetchType(Property.ofValue(FetchType.STORE))
+                .storeFormat(Property.ofValue(ListTasks.StoreFormat.CSV))
+                .storeCodec(Property.ofValue(ListTasks.StoreCodec.ZSTD))
+                .fields(Property.ofValue(List.of("id", "content", "due.date", "labels")))
+                .build()
+                .run(runContext);
+
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(new ZstdInputStream(runContext.storage().getFile(output.getUri())), StandardCharsets.UTF_8))) {
+                List<String> lines = reader.lines().toList();
+                assertThat(lines, hasSize(21));
+                assertThat(lines.get(0), is("id,content,due.date,labels"));
+                assertThat(lines.get(1), is("0,Task 0,2026-02-01,label0"));
+            }
+        }
+    }
+
+    private static ListTasks.ListTasksBuilder<?, ?> listTasks(TodoistStubServer stub) {
+        return ListTasks.builder()
+            // A token per test keeps rate limiters and connection pools apart
+            .apiToken(Property.ofValue("stub-" + IdUtils.create()))
+            .baseUrl(Property.ofValue(stub.baseUrl()))
+            .rateLimit(Property.ofValue(100_000))
+            .rateLimitBurst(Property.ofValue(100_000));
+    }
+
+    private static double metric(RunContext runContext, String name) {
+        return runContext.metrics().stream()
+            .filter(metric -> metric.getName().equals(name))
+            .mapToDouble(metric -> ((Number) metric.getValue()).doubleValue())
+            .sum();
+    }
+
     static boolean isApiTokenSet() {
         String token = System.getenv("TODOIST_API_TOKEN");
         return token != null && !token.isEmpty();
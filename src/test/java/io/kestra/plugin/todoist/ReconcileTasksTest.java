@@ -0,0 +1,234 @@
+package io.kestra.plugin.todoist;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.utils.IdUtils;
+
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+
+@KestraTest
+class ReconcileTasksTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    void testReconcileTasksAppliesOnlyDifferences() throws Exception {
+        try (TodoistStubServer stub = new TodoistStubServer(30)) {
+            // Project p3 holds tasks 3, 13 and 23 with priorities 4, 2 and 4
+            List<Map<String, Object>> desired = List.of(
+                Map.of("content", "Task 3", "priority", 4),
+                Map.of("content", "Task 13", "priority", 3),
+                Map.of("content", "New task", "labels", List.of("ops"))
+            );
+
+            ReconcileTasks.Output dryRun = reconcileTasks(stub, desired)
+                .dryRun(Property.ofValue(true))
+                .build()
+                .run(runContextFactory.of());
+
+            assertThat(dryRun.getAdded(), is(1L));
+            assertThat(dryRun.getUpdated(), is(1L));
+            assertThat(dryRun.getClosed(), is(1L));
+            assertThat(dryRun.getUnchanged(), is(1L));
+            // A dry run only lists the project
+            assertThat(stub.requests(), is(1));
+
+            ReconcileTasks.Output output = reconcileTasks(stub, desired)
+                .build()
+                .run(runContextFactory.of());
+
+            assertThat(output.getAdded(), is(1L));
+            assertThat(output.getUpdated(), is(1L));
+            assertThat(output.getClosed(), is(1L));
+            assertThat(output.getFailed(), is(0L));
+            // One more listing and a single /sync batch
+            assertThat(stub.requests(), is(3));
+        }
+    }
+
+    @Test
+    void testReconcileTasksMatchesOnCustomKeyField() throws Exception {
+        try (TodoistStubServer stub = new TodoistStubServer(30)) {
+            List<Map<String, Object>> desired = List.of(
+                Map.of("taskDescription", "Synthetic task number 3", "content", "Renamed task 3")
+            );
+
+            ReconcileTasks.Output output = reconcileTasks(stub, desired)
+                .keyField(Property.ofValue("taskDescription"))
+                .build()
+                .run(runContextFactory.of());
+
+            assertThat(output.getAdded(), is(0L));
+            assertThat(output.getUpdated(), is(1L));
+            // Task 13 has no description, so only task 23 is closed
+            assertThat(output.getClosed(), is(1L));
+        }
+    }
+
+    @Test
+    void testReconcileTasksLeavesTasksWithoutKeyUnchanged() throws Exception {
+        try (TodoistStubServer stub = new TodoistStubServer(60)) {
+            RunContext runContext = runContextFactory.of();
+            // Project p3 holds tasks 3, 13, 23, 33, 43 and 53; tasks 13 and 33 have no description
+            List<Map<String, Object>> desired = List.of(
+                Map.of("taskDescription", "Synthetic task number 3", "content", "Task 3")
+            );
+
+            ReconcileTasks.Output output = reconcileTasks(stub, desired)
+                .keyField(Property.ofValue("taskDescription"))
+                .build()
+                .run(runContext);
+
+            assertThat(output.getUnchanged(), is(1L));
+            assertThat(output.getAdded(), is(0L));
+            assertThat(output.getClosed(), is(3L));
+
+            List<Map<?, ?>> results = readResults(runContext, output);
+            assertThat(results.stream().map(result -> result.get("taskId")).toList(), containsInAnyOrder("23", "43", "53"));
+        }
+    }
+
+    @Test
+    void testReconcileTasksRejectsUnknownKeyField() throws Exception {
+        try (TodoistStubServer stub = new TodoistStubServer(30)) {
+            ReconcileTasks reconcileTasks = reconcileTasks(stub, List.of(Map.of("content", "Task 3", "externalId", "A-1")))
+                .keyField(Property.ofValue("externalId"))
+                .build();
+
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> reconcileTasks.run(runContextFactory.of()));
+            assertThat(exception.getMessage(), containsString("Invalid keyField 'externalId'"));
+            // Failed before listing the project, so nothing was closed
+            assertThat(stub.requests(), is(0));
+        }
+    }
+
+    @Test
+    void testReconcileTasksKeepsMissingTasksWhenCloseMissingIsDisabled() throws Exception {
+        try (TodoistStubServer stub = new TodoistStubServer(30)) {
+            List<Map<String, Object>> desired = List.of(
+                Map.of("content", "Task 3", "priority", 4)
+            );
+
+            ReconcileTasks.Output output = reconcileTasks(stub, desired)
+                .closeMissing(Property.ofValue(false))
+                .build()
+                .run(runContextFactory.of());
+
+            assertThat(output.getClosed(), is(0L));
+            assertThat(output.getUnchanged(), is(1L));
+            // Nothing to change, so no /sync request
+            assertThat(stub.requests(), is(1));
+        }
+    }
+
+    @Test
+    void testReconcileTasksClosesDuplicateKeys() throws Exception {
+        try (TodoistStubServer stub = new TodoistStubServer(30)) {
+            RunContext runContext = runContextFactory.of();
+            // Keyed by priority, tasks 3 and 23 share key 4 and task 13 has key 2
+            List<Map<String, Object>> desired = List.of(
+                Map.of("priority", 4, "content", "Task 3")
+            );
+
+            ReconcileTasks.Output output = reconcileTasks(stub, desired)
+                .keyField(Property.ofValue("priority"))
+                .build()
+                .run(runContext);
+
+            assertThat(output.getUnchanged(), is(1L));
+            assertThat(output.getClosed(), is(2L));
+
+            List<Map<?, ?>> results = readResults(runContext, output);
+            assertThat(results.stream().filter(result -> "close".equals(result.get("action"))).map(result -> result.get("taskId")).toList(), containsInAnyOrder("13", "23"));
+        }
+    }
+
+    @Test
+    void testReconcileTasksReportsRejectedCommands() throws Exception {
+        try (TodoistStubServer stub = new TodoistStubServer(30)) {
+            RunContext runContext = runContextFactory.of();
+            List<Map<String, Object>> desired = List.of(
+                Map.of("taskDescription", "Synthetic task number 3", "content", "Task 3"),
+                Map.of("taskDescription", "New task", "content", "Valid new task"),
+                Map.of("taskDescription", "Blank task", "content", " ")
+            );
+
+            ReconcileTasks.Output output = reconcileTasks(stub, desired)
+                .keyField(Property.ofValue("taskDescription"))
+                .closeMissing(Property.ofValue(false))
+                .build()
+                .run(runContext);
+
+            assertThat(output.getAdded(), is(1L));
+            assertThat(output.getFailed(), is(1L));
+
+            List<Map<?, ?>> results = readResults(runContext, output);
+            assertThat(results, hasSize(2));
+            assertThat(results.get(1).get("status"), is("error"));
+            assertThat(results.get(1).get("error").toString(), containsString("Content is empty"));
+        }
+    }
+
+    @Test
+    void testReconcileTasksSplitsCommandsIntoBatches() throws Exception {
+        try (TodoistStubServer stub = new TodoistStubServer(3000)) {
+            // Project p3 holds 300 tasks: one is kept and 299 are closed
+            List<Map<String, Object>> desired = List.of(
+                Map.of("content", "Task 3", "priority", 4)
+            );
+
+            ReconcileTasks.Output output = reconcileTasks(stub, desired)
+                .batchSize(Property.ofValue(500))
+                .build()
+                .run(runContextFactory.of());
+
+            assertThat(output.getUnchanged(), is(1L));
+            assertThat(output.getClosed(), is(299L));
+            assertThat(output.getFailed(), is(0L));
+            // Two pages of 200 tasks, then batches of 100, 100 and 99 commands
+            assertThat(stub.requests(), is(5));
+        }
+    }
+
+    @Test
+    void testReconcileTasksRejectsLabelsThatAreNotAList() throws Exception {
+        try (TodoistStubServer stub = new TodoistStubServer(30)) {
+            ReconcileTasks reconcileTasks = reconcileTasks(stub, List.of(Map.of("content", "Task 3", "labels", "label3")))
+                .build();
+
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> reconcileTasks.run(runContextFactory.of()));
+            assertThat(exception.getMessage(), containsString("'labels' that is not a list"));
+            assertThat(stub.requests(), is(0));
+        }
+    }
+
+    private static List<Map<?, ?>> readResults(RunContext runContext, ReconcileTasks.Output output) throws Exception {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(runContext.storage().getFile(output.getUri())))) {
+            return FileSerde.readAll(reader).map(result -> (Map<?, ?>) result).collectList().block();
+        }
+    }
+
+    private static ReconcileTasks.ReconcileTasksBuilder<?, ?> reconcileTasks(TodoistStubServer stub, List<Map<String, Object>> desired) {
+        return ReconcileTasks.builder()
+            .apiToken(Property.ofValue("stub-" + IdUtils.create()))
+            .baseUrl(Property.ofValue(stub.baseUrl()))
+            .rateLimit(Property.ofValue(100_000))
+            .projectId(Property.ofValue("p3"))
+            .from(desired);
+    }
+}
@@ -0,0 +1,68 @@
+package io.kestra.plugin.todoist;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.utils.IdUtils;
+
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@KestraTest
+class SyncTasksTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    @EnabledIf(value = "isApiTokenSet", disabledReason = "TODOIST_API_TOKEN environment variable not set")
+    void testSyncTasks() throws Exception {
+        String apiToken = System.getenv("TODOIST_API_TOKEN");
+        RunContext runContext = runContextFactory.of(Map.of("flow", Map.of("namespace", "io.kestra.tests", "id", "todoist_sync")));
+        String taskId = null;
+
+        SyncTasks syncTasks = SyncTasks.builder()
+            .id("sync_tasks")
+            .type(SyncTasks.class.getName())
+            .apiToken(Property.ofValue(apiToken))
+            .stateKey(Property.ofValue("todoist_sync_test_" + IdUtils.create()))
+            .build();
+
+        try {
+            SyncTasks.Output initialOutput = syncTasks.run(runContext);
+            assertThat(initialOutput.getFullSync(), is(true));
+
+            CreateTask createTask = CreateTask.builder()
+                .apiToken(Property.ofValue(apiToken))
+                .content(Property.ofValue("Test task for sync"))
+                .build();
+            taskId = createTask.run(runContext).getTaskId();
+
+            SyncTasks.Output output = syncTasks.run(runContext);
+            String createdId = taskId;
+
+            assertThat(output.getFullSync(), is(false));
+            assertThat(output.getAdded().stream().anyMatch(task -> createdId.equals(task.get("id").toString())), is(true));
+        } finally {
+            if (taskId != null) {
+                DeleteTask deleteTask = DeleteTask.builder()
+                    .apiToken(Property.ofValue(apiToken))
+                    .taskId(Property.ofValue(taskId))
+                    .build();
+                deleteTask.run(runContext);
+            }
+        }
+    }
+
+    static boolean isApiTokenSet() {
+        String token = System.getenv("TODOIST_API_TOKEN");
+        return token != null && !token.isEmpty();
+    }
+}
@@ -0,0 +1,469 @@
+package io.kestra.plugin.todoist;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.kestra.core.serializers.JacksonMapper;
+
+/**
+ * Local stand-in for the Todoist API v1 so pagination, throttling and large volumes can be tested without a token.
+ * <p>
+ * Serves a synthetic dataset of {@code size} active tasks under {@code /api/v1}: {@code /tasks} (listing with
+ * `project_id`, `section_id`, `label` and `ids`, or creating), {@code /tasks/filter} (terms `#Project n`, `/Section n`,
+ * `@label`, `pN` joined with `&`), {@code /tasks/completed/...} (every task completed one hour after the previous one
+ * from {@link #COMPLETED_FROM}, due that day in the user's timezone, both bounds included), {@code /tasks/{id}} and {@code /tasks/{id}/close}, the
+ * {@code /projects} and {@code /sections} listings, and {@code /sync} commands and resource types, with cursor
+ * pagination where Todoist has it. A `sync_token` of `*` gets every active item as a full sync; a token returned
+ * earlier gets only the items created, updated or closed since, closed ones with `checked: true`. Synthetic tasks are
+ * generated from their index on every request, so large datasets cost no memory; created tasks take the IDs after them.
+ */
+class TodoistStubServer implements AutoCloseable {
+    private static final JsonFactory JSON = JacksonMapper.ofJson().getFactory();
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int PROJECTS = 10;
+    private static final int SECTIONS = 5;
+    private static final int LABELS = 4;
+    static final Instant COMPLETED_FROM = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final int size;
+    private final Duration latency;
+    private final int throttleEvery;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Set<Integer> closed = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger throttled = new AtomicInteger();
+    private final Map<Integer, Map<String, Object>> created = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId;
+    private final AtomicInteger version = new AtomicInteger();
+    private final Map<Integer, Integer> changedAt = new ConcurrentHashMap<>();
+    private volatile Duration completedOffset = Duration.ZERO;
+    private volatile ZoneOffset dueZone = ZoneOffset.UTC;
+
+    /**
+     * @param size number of synthetic active tasks
+     * @param latency delay added to every response
+     * @param throttleEvery answer every n-th request with a 429 and `Retry-After: 0`; 0 disables throttling
+     */
+    TodoistStubServer(int size, Duration latency, int throttleEvery) throws IOException {
+        this.size = size;
+        this.latency = latency;
+        this.throttleEvery = throttleEvery;
+        this.nextId = new AtomicInteger(size);
+
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.server.createContext("/api/v1", this::handle);
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+
+    TodoistStubServer(int size) throws IOException {
+        this(size, Duration.ZERO, 0);
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/api/v1";
+    }
+
+    int requests() {
+        return requests.get();
+    }
+
+    int throttled() {
+        return throttled.get();
+    }
+
+    /**
+     * Shifts every completion time, e.g. by -500ms to complete tasks just before the hour.
+     */
+    TodoistStubServer completedOffset(Duration offset) {
+        this.completedOffset = offset;
+        return this;
+    }
+
+    /**
+     * Sets the timezone of the user, in which `by_due_date` ranges the date-only due dates.
+     */
+    TodoistStubServer dueZone(ZoneOffset zone) {
+        this.dueZone = zone;
+        return this;
+    }
+
+    /**
+     * The synthetic task at this index, as Todoist would return it.
+     */
+    static Map<String, Object> task(int index) {
+        Map<String, Object> task = new LinkedHashMap<>();
+        task.put("id", String.valueOf(index));
+        task.put("project_id", "p" + index % PROJECTS);
+        task.put("section_id", "s" + index % SECTIONS);
+        task.put("parent_id", null);
+        task.put("content", "Task " + index);
+        // Every twentieth task, from task 13, has no description, as Todoist returns it: an empty string
+        task.put("description", index % 20 == 13 ? "" : "Synthetic task number " + index);
+        task.put("priority", 1 + index % 4);
+        task.put("labels", List.of("label" + index % LABELS));
+        task.put("checked", false);
+        task.put("is_deleted", false);
+        task.put("added_at", "2026-01-01T00:00:00.000000Z");
+        task.put("due", Map.of("date", "2026-02-" + String.format("%02d", 1 + index % 28), "is_recurring", false, "string", "Feb " + (1 + index % 28)));
+        return task;
+    }
+
+    /**
+     * Completion time of the synthetic task at this index: one task per hour from {@link #COMPLETED_FROM}, shifted by
+     * the completion offset.
+     */
+    Instant completedAt(int index) {
+        return COMPLETED_FROM.plus(Duration.ofHours(index)).plus(completedOffset);
+    }
+
+    /**
+     * The synthetic task at this index as returned by the completed tasks endpoints.
+     */
+    Map<String, Object> completedTask(int index) {
+        Map<String, Object> task = task(index);
+        task.put("checked", true);
+        task.put("completed_at", completedAt(index).toString());
+        return task;
+    }
+
+    /**
+     * Date-only due date of the synthetic completed task at this index: the day it was completed, in the user's timezone.
+     */
+    LocalDate dueDate(int index) {
+        return LocalDate.ofInstant(completedAt(index), dueZone);
+    }
+
+    /**
+     * The synthetic task at this index as returned by the due date endpoint.
+     */
+    Map<String, Object> dueTask(int index) {
+        Map<String, Object> task = completedTask(index);
+        task.put("due", Map.of("date", dueDate(index).toString(), "is_recurring", false, "string", dueDate(index).toString()));
+        return task;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            int count = requests.incrementAndGet();
+            if (!latency.isZero()) {
+                Thread.sleep(latency);
+            }
+
+            if (throttleEvery > 0 && count % throttleEvery == 0) {
+                throttled.incrementAndGet();
+                exchange.getResponseHeaders().add("Retry-After", "0");
+                send(exchange, 429, "{\"error\":\"Too many requests\"}");
+                return;
+            }
+
+            String path = exchange.getRequestURI().getPath().substring("/api/v1".length());
+            Map<String, String> params = query(exchange.getRequestURI().getRawQuery());
+            String[] segments = path.substring(1).split("/");
+
+            switch (segments[0]) {
+                case "tasks" -> handleTasks(exchange, segments, params);
+                case "projects", "sections" -> send(exchange, 200, JacksonMapper.ofJson().writeValueAsString(Map.of("results", resources(segments[0]), "next_cursor", "")));
+                case "sync" -> handleSync(exchange);
+                default -> send(exchange, 404, "{\"error\":\"Not found\"}");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IllegalArgumentException e) {
+            send(exchange, 400, "{\"error\":\"" + e.getMessage() + "\"}");
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handleTasks(HttpExchange exchange, String[] segments, Map<String, String> params) throws IOException {
+        if (segments.length == 1 && "POST".equals(exchange.getRequestMethod())) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> task = new LinkedHashMap<>(JacksonMapper.ofJson().readValue(exchange.getRequestBody(), Map.class));
+            send(exchange, 200, JacksonMapper.ofJson().writeValueAsString(create(task)));
+        } else if (segments.length == 1) {
+            Predicate<Integer> matcher = index -> true;
+            if (params.containsKey("project_id")) {
+                matcher = matcher.and(index -> ("p" + index % PROJECTS).equals(params.get("project_id")));
+            }
+            if (params.containsKey("section_id")) {
+                matcher = matcher.and(index -> ("s" + index % SECTIONS).equals(params.get("section_id")));
+            }
+            if (params.containsKey("label")) {
+                matcher = matcher.and(index -> ("label" + index % LABELS).equals(params.get("label")));
+            }
+            if (params.containsKey("ids")) {
+                Set<String> ids = Set.of(params.get("ids").split(","));
+                matcher = matcher.and(index -> ids.contains(String.valueOf(index)));
+            }
+            sendPage(exchange, params, matcher);
+        } else if ("filter".equals(segments[1])) {
+            sendPage(exchange, params, filter(params.getOrDefault("query", "")));
+        } else if ("completed".equals(segments[1])) {
+            Instant since = Instant.parse(params.get("since"));
+            Instant until = Instant.parse(params.get("until"));
+            // By due date, a date-only due starts at midnight in the user's timezone
+            boolean byDueDate = segments.length > 2 && "by_due_date".equals(segments[2]);
+            IntFunction<Instant> date = index -> byDueDate ? dueDate(index).atStartOfDay(dueZone).toInstant() : completedAt(index);
+            Predicate<Integer> matcher = index -> !date.apply(index).isBefore(since) && !date.apply(index).isAfter(until);
+            if (params.containsKey("project_id")) {
+                matcher = matcher.and(index -> ("p" + index % PROJECTS).equals(params.get("project_id")));
+            }
+            sendPage(exchange, params, matcher, "items", byDueDate ? this::dueTask : this::completedTask);
+        } else {
+            int index = parseId(segments[1]);
+            if (index < 0 || closed.contains(index)) {
+                send(exchange, 404, "{\"error\":\"Task not found\"}");
+            } else if (segments.length > 2 && "close".equals(segments[2])) {
+                close(index);
+                exchange.sendResponseHeaders(204, -1);
+            } else {
+                send(exchange, 200, JacksonMapper.ofJson().writeValueAsString(item(index)));
+            }
+        }
+    }
+
+    /**
+     * Streams one page of the matching tasks; the cursor is the index to resume from.
+     */
+    private void sendPage(HttpExchange exchange, Map<String, String> params, Predicate<Integer> matcher) throws IOException {
+        sendPage(exchange, params, matcher, "results", TodoistStubServer::task);
+    }
+
+    private void sendPage(HttpExchange exchange, Map<String, String> params, Predicate<Integer> matcher, String field, IntFunction<Map<String, Object>> generator) throws IOException {
+        int limit = Math.min(Integer.parseInt(params.getOrDefault("limit", String.valueOf(DEFAULT_PAGE_SIZE))), MAX_PAGE_SIZE);
+        int index = Integer.parseInt(params.getOrDefault("cursor", "0"));
+
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, 0);
+
+        try (OutputStream body = exchange.getResponseBody(); JsonGenerator json = JSON.createGenerator(body)) {
+            json.writeStartObject();
+            json.writeArrayFieldStart(field);
+
+            int written = 0;
+            for (; index < size && written < limit; index++) {
+                if (!closed.contains(index) && matcher.test(index)) {
+                    json.writeObject(generator.apply(index));
+                    written++;
+                }
+            }
+
+            json.writeEndArray();
+            if (index < size) {
+                json.writeStringField("next_cursor", String.valueOf(index));
+            } else {
+                json.writeNullField("next_cursor");
+            }
+            json.writeEndObject();
+        }
+    }
+
+    private void handleSync(HttpExchange exchange) throws IOException {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> request = JacksonMapper.ofJson().readValue(exchange.getRequestBody(), Map.class);
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> commands = (List<Map<String, Object>>) request.getOrDefault("commands", List.of());
+
+        Map<String, Object> syncStatus = new LinkedHashMap<>();
+        Map<String, Object> tempIdMapping = new LinkedHashMap<>();
+        for (Map<String, Object> command : commands) {
+            String uuid = command.get("uuid").toString();
+            @SuppressWarnings("unchecked")
+            Map<String, Object> args = (Map<String, Object>) command.getOrDefault("args", Map.of());
+
+            switch (command.get("type").toString()) {
+                case "item_add", "item_update" -> {
+                    if (args.containsKey("content") && args.get("content").toString().isBlank()) {
+                        syncStatus.put(uuid, Map.of("error_code", 21, "error", "Content is empty"));
+                    } else if ("item_add".equals(command.get("type"))) {
+                        tempIdMapping.put(command.get("temp_id").toString(), create(new LinkedHashMap<>(args)).get("id"));
+                        syncStatus.put(uuid, "ok");
+                    } else {
+                        int index = parseId(String.valueOf(args.get("id")));
+                        if (index < 0) {
+                            syncStatus.put(uuid, Map.of("error_code", 22, "error", "Item not found"));
+                        } else {
+                            changedAt.put(index, version.incrementAndGet());
+                            syncStatus.put(uuid, "ok");
+                        }
+                    }
+                }
+                case "item_close", "item_delete" -> {
+                    int index = parseId(String.valueOf(args.get("id")));
+                    if (index < 0 || !close(index)) {
+                        syncStatus.put(uuid, Map.of("error_code", 22, "error", "Item not found"));
+                    } else {
+                        syncStatus.put(uuid, "ok");
+                    }
+                }
+                case "item_uncomplete" -> {
+                    int index = parseId(String.valueOf(args.get("id")));
+                    if (index >= 0 && closed.remove(index)) {
+                        changedAt.put(index, version.incrementAndGet());
+                    }
+                    syncStatus.put(uuid, "ok");
+                }
+                default -> syncStatus.put(uuid, Map.of("error_code", 1, "error", "Unsupported command"));
+            }
+        }
+
+        // A token is the change version it was issued at; items changed since are returned, closed ones as checked
+        Object syncToken = request.getOrDefault("sync_token", TodoistSync.FULL_SYNC_TOKEN);
+        Integer since = syncToken.toString().startsWith("stub-") ? Integer.valueOf(syncToken.toString().substring("stub-".length())) : null;
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        @SuppressWarnings("unchecked")
+        List<String> resourceTypes = (List<String>) request.getOrDefault("resource_types", List.of());
+        for (String resourceType : resourceTypes) {
+            if ("items".equals(resourceType) && since != null) {
+                response.put(resourceType, changedAt.entrySet().stream().filter(change -> change.getValue() > since).map(change -> item(change.getKey())).toList());
+            } else {
+                response.put(resourceType, resources(resourceType));
+            }
+        }
+        response.put("sync_status", syncStatus);
+        response.put("temp_id_mapping", tempIdMapping);
+        response.put("sync_token", "stub-" + version.get());
+        response.put("full_sync", since == null);
+        send(exchange, 200, JacksonMapper.ofJson().writeValueAsString(response));
+    }
+
+    /**
+     * Every resource of a `/sync` resource type; unknown types are returned empty.
+     */
+    private List<Map<String, Object>> resources(String resourceType) {
+        return switch (resourceType) {
+            case "items" -> IntStream.range(0, nextId.get()).filter(index -> (index < size || created.containsKey(index)) && !closed.contains(index)).mapToObj(this::item).toList();
+            case "projects" -> IntStream.range(0, PROJECTS).mapToObj(index -> Map.<String, Object>of("id", "p" + index, "name", "Project " + index)).toList();
+            case "sections" -> IntStream.range(0, SECTIONS).mapToObj(index -> Map.<String, Object>of("id", "s" + index, "name", "Section " + index, "project_id", "p" + index)).toList();
+            case "labels" -> IntStream.range(0, LABELS).mapToObj(index -> Map.<String, Object>of("id", "l" + index, "name", "label" + index)).toList();
+            default -> List.of();
+        };
+    }
+
+    private Predicate<Integer> filter(String query) {
+        Predicate<Integer> matcher = index -> true;
+
+        for (String rawTerm : query.split("&")) {
+            String term = rawTerm.trim().replace("\\", "");
+            if (term.isEmpty()) {
+                continue;
+            }
+
+            if (term.startsWith("#Project ")) {
+                String project = "p" + term.substring("#Project ".length());
+                matcher = matcher.and(index -> ("p" + index % PROJECTS).equals(project));
+            } else if (term.startsWith("/Section ")) {
+                String section = "s" + term.substring("/Section ".length());
+                matcher = matcher.and(index -> ("s" + index % SECTIONS).equals(section));
+            } else if (term.startsWith("@")) {
+                String label = term.substring(1);
+                matcher = matcher.and(index -> ("label" + index % LABELS).equals(label));
+            } else if (term.matches("p[1-4]")) {
+                int priority = Integer.parseInt(term.substring(1));
+                matcher = matcher.and(index -> 1 + index % 4 == priority);
+            } else {
+                throw new IllegalArgumentException("Unsupported filter term: " + term);
+            }
+        }
+
+        return matcher;
+    }
+
+    /**
+     * Adds a task with the next free ID, after the synthetic ones.
+     */
+    private Map<String, Object> create(Map<String, Object> task) {
+        int index = nextId.getAndIncrement();
+        task.put("id", String.valueOf(index));
+        task.put("checked", false);
+        task.put("is_deleted", false);
+        task.put("added_at", Instant.now().toString());
+        created.put(index, task);
+        changedAt.put(index, version.incrementAndGet());
+        return task;
+    }
+
+    private boolean close(int index) {
+        if (!closed.add(index)) {
+            return false;
+        }
+        changedAt.put(index, version.incrementAndGet());
+        return true;
+    }
+
+    /**
+     * A synthetic or created task, marked checked once closed.
+     */
+    private Map<String, Object> item(int index) {
+        Map<String, Object> item = new LinkedHashMap<>(index < size ? task(index) : created.get(index));
+        item.put("checked", closed.contains(index));
+        return item;
+    }
+
+    private int parseId(String id) {
+        try {
+            int index = Integer.parseInt(id);
+            return index >= 0 && (index < size || created.containsKey(index)) ? index : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static Map<String, String> query(String rawQuery) {
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return Map.of();
+        }
+
+        return Arrays.stream(rawQuery.split("&"))
+            .map(param -> param.split("=", 2))
+            .collect(Collectors.toMap(
+                param -> URLDecoder.decode(param[0], StandardCharsets.UTF_8),
+                param -> param.length > 1 ? URLDecoder.decode(param[1], StandardCharsets.UTF_8) : "",
+                (first, second) -> second
+            ));
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdown();
+    }
+}
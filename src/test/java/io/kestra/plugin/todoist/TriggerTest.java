@@ -0,0 +1,140 @@
+package io.kestra.plugin.todoist;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.conditions.ConditionContext;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.core.utils.TestsUtils;
+
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@KestraTest
+class TriggerTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    @EnabledIf(value = "isApiTokenSet", disabledReason = "TODOIST_API_TOKEN environment variable not set")
+    void testTrigger() throws Exception {
+        String apiToken = System.getenv("TODOIST_API_TOKEN");
+        String taskId = null;
+
+        Trigger trigger = Trigger.builder()
+            .id("todoist_trigger_" + IdUtils.create())
+            .type(Trigger.class.getName())
+            .apiToken(Property.ofValue(apiToken))
+            .eventTypes(Property.ofValue(List.of(Trigger.EventType.ADDED)))
+            .build();
+
+        Map.Entry<ConditionContext, io.kestra.core.models.triggers.Trigger> context = TestsUtils.mockTrigger(runContextFactory, trigger);
+
+        try {
+            Optional<Execution> baseline = trigger.evaluate(context.getKey(), context.getValue());
+            assertThat(baseline.isPresent(), is(false));
+
+            CreateTask createTask = CreateTask.builder()
+                .apiToken(Property.ofValue(apiToken))
+                .content(Property.ofValue("Test task for trigger"))
+                .build();
+            taskId = createTask.run(runContextFactory.of()).getTaskId();
+
+            Optional<Execution> execution = trigger.evaluate(context.getKey(), context.getValue());
+
+            assertThat(execution.isPresent(), is(true));
+            @SuppressWarnings("unchecked")
+            List<Map<String, Object>> events = (List<Map<String, Object>>) execution.get().getTrigger().getVariables().get("events");
+            String createdId = taskId;
+            assertThat(events.stream().anyMatch(event -> createdId.equals(((Map<?, ?>) event.get("task")).get("id").toString())), is(true));
+        } finally {
+            if (taskId != null) {
+                DeleteTask deleteTask = DeleteTask.builder()
+                    .apiToken(Property.ofValue(apiToken))
+                    .taskId(Property.ofValue(taskId))
+                    .build();
+                deleteTask.run(runContextFactory.of());
+            }
+        }
+    }
+
+    @Test
+    void testTriggerReportsTasksAddedSinceBaseline() throws Exception {
+        try (TodoistStubServer stub = new TodoistStubServer(20)) {
+            String apiToken = "stub-" + IdUtils.create();
+            Trigger trigger = stubTrigger(stub, apiToken).build();
+            Map.Entry<ConditionContext, io.kestra.core.models.triggers.Trigger> context = TestsUtils.mockTrigger(runContextFactory, trigger);
+
+            assertThat(trigger.evaluate(context.getKey(), context.getValue()).isPresent(), is(false));
+
+            String taskId = createTask(stub, apiToken, "Added after the baseline");
+            Optional<Execution> execution = trigger.evaluate(context.getKey(), context.getValue());
+
+            assertThat(execution.isPresent(), is(true));
+            @SuppressWarnings("unchecked")
+            List<Map<String, Object>> events = (List<Map<String, Object>>) execution.get().getTrigger().getVariables().get("events");
+            assertThat(events, hasSize(1));
+            assertThat(events.getFirst().get("type"), is("ADDED"));
+            assertThat(((Map<?, ?>) events.getFirst().get("task")).get("id"), is(taskId));
+        }
+    }
+
+    @Test
+    void testTriggerFailsWhenPendingEventsExceedLimit() throws Exception {
+        try (TodoistStubServer stub = new TodoistStubServer(20)) {
+            String apiToken = "stub-" + IdUtils.create();
+            Trigger trigger = stubTrigger(stub, apiToken)
+                .maxEvents(Property.ofValue(1))
+                .maxPendingEvents(Property.ofValue(2))
+                .build();
+            Map.Entry<ConditionContext, io.kestra.core.models.triggers.Trigger> context = TestsUtils.mockTrigger(runContextFactory, trigger);
+
+            assertThat(trigger.evaluate(context.getKey(), context.getValue()).isPresent(), is(false));
+
+            for (int i = 0; i < 4; i++) {
+                createTask(stub, apiToken, "Burst task " + i);
+            }
+
+            // One event fits the execution and three would be kept, one more than allowed
+            IllegalStateException exception = assertThrows(IllegalStateException.class, () -> trigger.evaluate(context.getKey(), context.getValue()));
+            assertThat(exception.getMessage(), containsString("maxPendingEvents (2)"));
+        }
+    }
+
+    private static Trigger.TriggerBuilder<?, ?> stubTrigger(TodoistStubServer stub, String apiToken) {
+        return Trigger.builder()
+            .id("todoist_trigger_" + IdUtils.create())
+            .type(Trigger.class.getName())
+            .apiToken(Property.ofValue(apiToken))
+            .baseUrl(Property.ofValue(stub.baseUrl()))
+            .rateLimit(Property.ofValue(100_000))
+            .eventTypes(Property.ofValue(List.of(Trigger.EventType.ADDED)));
+    }
+
+    private String createTask(TodoistStubServer stub, String apiToken, String content) throws Exception {
+        return CreateTask.builder()
+            .apiToken(Property.ofValue(apiToken))
+            .baseUrl(Property.ofValue(stub.baseUrl()))
+            .rateLimit(Property.ofValue(100_000))
+            .content(Property.ofValue(content))
+            .build()
+            .run(runContextFactory.of())
+            .getTaskId();
+    }
+
+    static boolean isApiTokenSet() {
+        String token = System.getenv("TODOIST_API_TOKEN");
+        return token != null && !token.isEmpty();
+    }
+}
@@ -0,0 +1,97 @@
+package io.kestra.plugin.todoist;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.utils.IdUtils;
+
+import io.micronaut.http.HttpRequest;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@KestraTest
+class WebhookTriggerTest {
+    private static final String SECRET = "webhook-secret";
+
+    @Test
+    void testWebhookTrigger() {
+        WebhookTrigger trigger = WebhookTrigger.builder()
+            .id("todoist_webhook_" + IdUtils.create())
+            .type(WebhookTrigger.class.getName())
+            .key("todoist")
+            .clientSecret(SECRET)
+            .events(List.of("item:added"))
+            .build();
+        Flow flow = flow(trigger);
+
+        String added = "{\"event_name\":\"item:added\",\"user_id\":\"1\",\"event_data\":{\"id\":\"42\",\"content\":\"Buy milk\"}}";
+        String completed = "{\"event_name\":\"item:completed\",\"user_id\":\"1\",\"event_data\":{\"id\":\"42\"}}";
+
+        Optional<Execution> execution = trigger.evaluate(delivery(added, "delivery-1", sign(added)), flow);
+        assertThat(execution.isPresent(), is(true));
+        @SuppressWarnings("unchecked")
+        Map<String, Object> body = (Map<String, Object>) execution.get().getTrigger().getVariables().get("body");
+        assertThat(body.get("event_name"), is("item:added"));
+
+        // Redelivery of the same id is not emitted again
+        assertThat(trigger.evaluate(delivery(added, "delivery-1", sign(added)), flow).isPresent(), is(false));
+        assertThat(trigger.evaluate(delivery(added, "delivery-2", "invalid"), flow).isPresent(), is(false));
+        // Filtered out by the events property
+        assertThat(trigger.evaluate(delivery(completed, "delivery-3", sign(completed)), flow).isPresent(), is(false));
+    }
+
+    @Test
+    void testWebhookTriggerRejectsTamperedBody() {
+        WebhookTrigger trigger = WebhookTrigger.builder()
+            .id("todoist_webhook_" + IdUtils.create())
+            .type(WebhookTrigger.class.getName())
+            .key("todoist")
+            .clientSecret(SECRET)
+            .build();
+        Flow flow = flow(trigger);
+
+        String signed = "{\"event_name\":\"item:updated\",\"event_data\":{\"id\":\"1\"}}";
+        String tampered = "{\"event_name\":\"item:updated\",\"event_data\":{\"id\":\"2\"}}";
+
+        assertThat(trigger.evaluate(delivery(tampered, "delivery-1", sign(signed)), flow).isPresent(), is(false));
+        // A rejected delivery does not mark its id as seen
+        assertThat(trigger.evaluate(delivery(signed, "delivery-1", sign(signed)), flow).isPresent(), is(true));
+    }
+
+    private static Flow flow(WebhookTrigger trigger) {
+        return Flow.builder()
+            .id("todoist_webhook_flow_" + IdUtils.create())
+            .namespace("io.kestra.plugin.todoist")
+            .revision(1)
+            .triggers(List.of(trigger))
+            .build();
+    }
+
+    private static HttpRequest<String> delivery(String body, String deliveryId, String signature) {
+        return HttpRequest.POST("/api/v1/executions/webhook/io.kestra.plugin.todoist/flow/todoist", body)
+            .header(WebhookTrigger.SIGNATURE_HEADER, signature)
+            .header(WebhookTrigger.DELIVERY_ID_HEADER, deliveryId);
+    }
+
+    private static String sign(String body) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return Base64.getEncoder().encodeToString(mac.doFinal(body.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}